@@ -0,0 +1,125 @@
+package bench;
+
+import model.Board;
+import model.Coordinate;
+import model.MachinePlayer;
+import model.ShotResult;
+import model.exceptions.CellAlreadyShotException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Microbenchmarks of the game engine, run without JavaFX on the classpath.
+ *
+ * <p>Build and run with {@code mvn -pl bench -am package} and
+ * {@code java -jar bench/target/benchmarks.jar}. Add {@code -prof gc} to
+ * report memory as well: its {@code gc.alloc.rate.norm} line is the number
+ * of bytes allocated per operation, that is, per game for
+ * {@link #newGame(Blackhole)} and {@link #fullGame()}.</p>
+ *
+ * @author Battle Naval Fury Team
+ * @version 1.0
+ * @since 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EngineBenchmark {
+
+    /** Seed shared by every run, so all runs play the same games */
+    private static final long SEED = 42L;
+
+    /** Machine player shooting at {@link #target} */
+    private MachinePlayer shooter;
+
+    /** Board with a placed fleet and about half of its cells shot */
+    private Board target;
+
+    /**
+     * Prepares a half-played board for the decision benchmark.
+     *
+     * @throws CellAlreadyShotException never, the shots come from unshot cells
+     */
+    @Setup(Level.Iteration)
+    public void setUp() throws CellAlreadyShotException {
+        shooter = new MachinePlayer("Bench", SEED);
+        MachinePlayer owner = new MachinePlayer("Target", SEED + 1);
+        owner.placeShips();
+        target = owner.getBoard();
+        for (int i = 0; i < Board.SIZE * Board.SIZE / 2; i++) {
+            target.receiveShot(shooter.getNextShot(target));
+        }
+    }
+
+    /**
+     * Time for the machine player to choose a shot.
+     *
+     * @return the chosen cell
+     */
+    @Benchmark
+    public Coordinate machineDecision() {
+        return shooter.getNextShot(target);
+    }
+
+    /**
+     * Time to set up a game: two empty boards and both fleets placed.
+     *
+     * <p>With {@code -prof gc} this reports the bytes a game costs before
+     * the first shot.</p>
+     *
+     * @param blackhole consumes both boards
+     */
+    @Benchmark
+    public void newGame(Blackhole blackhole) {
+        MachinePlayer first = new MachinePlayer("First", SEED);
+        MachinePlayer second = new MachinePlayer("Second", SEED + 1);
+        first.placeShips();
+        second.placeShips();
+        blackhole.consume(first.getBoard());
+        blackhole.consume(second.getBoard());
+    }
+
+    /**
+     * Time to play a whole machine-against-machine game: fleet placement
+     * on both sides, then alternating shots until one fleet is sunk.
+     *
+     * @return the number of shots fired
+     * @throws CellAlreadyShotException never, the shots come from unshot cells
+     */
+    @Benchmark
+    public int fullGame() throws CellAlreadyShotException {
+        MachinePlayer first = new MachinePlayer("First", SEED);
+        MachinePlayer second = new MachinePlayer("Second", SEED + 1);
+        first.placeShips();
+        second.placeShips();
+
+        MachinePlayer shooting = first;
+        MachinePlayer waiting = second;
+        int shots = 0;
+        while (!first.getBoard().allShipsSunk() && !second.getBoard().allShipsSunk()) {
+            ShotResult result = waiting.getBoard().receiveShot(shooting.getNextShot(waiting.getBoard()));
+            shots++;
+            if (result == ShotResult.WATER) {
+                MachinePlayer swap = shooting;
+                shooting = waiting;
+                waiting = swap;
+            }
+        }
+        return shots;
+    }
+}
@@ -0,0 +1,381 @@
+package cli;
+
+import model.Board;
+import model.CellState;
+import model.Coordinate;
+import model.Game;
+import model.GameMode;
+import model.GameState;
+import model.Orientation;
+import model.Ship;
+import model.ShipType;
+import model.ShotResult;
+import model.exceptions.CellAlreadyShotException;
+import model.exceptions.InvalidShipPlacementException;
+import model.logging.Log;
+import model.metrics.Metrics;
+import model.replay.GameJournal;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.lang.System.Logger.Level;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+/**
+ * Plays a game against the machine in the terminal, without JavaFX.
+ *
+ * <p>Moves are cells such as {@code B7} (row letter A-J, column 1-10), one
+ * per line. Interactively the boards are drawn after every turn. In script
+ * mode, used automatically when stdin is not a terminal, nothing is drawn
+ * and each shot prints one line, so bots and recorded move streams can
+ * drive the engine:</p>
+ * <pre>
+ * H B7 WATER
+ * M C3 TOUCH
+ * END MACHINE 42
+ * </pre>
+ * <p>{@code H}/{@code M} mark human and machine shots; the last line gives
+ * the winner and the shots it fired. With {@code --salvo} each line holds
+ * the whole salvo, such as {@code B7 C3 D4}, one cell per surviving ship
+ * at most, and every shot of both salvos is printed. Bad lines print
+ * {@code ERR} and are skipped. Output is only flushed when no more input is waiting, which
+ * keeps piped streams fast and still answers a bot that waits for each
+ * reply. The human fleet is placed at random. Autosave and JMX are off
+ * unless {@code --autosave} or {@code --jmx} are given, so a game starts
+ * in tens of milliseconds.</p>
+ *
+ * @author Battle Naval Fury Team
+ * @version 1.0
+ * @since 1.0
+ */
+public final class ConsoleMain {
+
+    /** Command line help */
+    private static final String USAGE = String.join(System.lineSeparator(),
+            "Usage: ConsoleMain [options] < moves",
+            "  --script      one line per shot, no boards (default when stdin is not a terminal)",
+            "  --seed N      seed of the machine player and of the human fleet",
+            "  --name NAME   nickname of the human player (default: Console)",
+            "  --salvo       salvo rules: one shot per surviving ship each turn",
+            "  --autosave    save the game after every move and record the result",
+            "  --jmx         publish the engine metrics over JMX",
+            "  --verbose     show engine log messages");
+
+    /** Attempts to place each human ship at random */
+    private static final int MAX_PLACEMENT_ATTEMPTS = 1000;
+
+    /** Game being played */
+    private final Game game;
+
+    /** Whether output is one line per shot instead of boards */
+    private final boolean script;
+
+    /** Results of the last salvo, reused for every turn */
+    private final byte[] salvoResults = new byte[Game.FLEET_CONFIGURATION.size()];
+
+    /** Move input */
+    private final BufferedReader in;
+
+    /** Buffered output */
+    private final PrintWriter out;
+
+    private ConsoleMain(Game game, boolean script, BufferedReader in, PrintWriter out) {
+        this.game = game;
+        this.script = script;
+        this.in = in;
+        this.out = out;
+    }
+
+    /**
+     * Runs one game.
+     *
+     * @param args the command line options, see {@link #USAGE}
+     * @throws IOException if stdin or stdout fail
+     */
+    public static void main(String[] args) throws IOException {
+        boolean script = System.console() == null;
+        boolean autosave = false;
+        boolean verbose = false;
+        boolean jmx = false;
+        GameMode mode = GameMode.CLASSIC;
+        long seed = new Random().nextLong();
+        String name = "Console";
+        try {
+            for (int i = 0; i < args.length; i++) {
+                switch (args[i]) {
+                    case "--script": script = true; break;
+                    case "--autosave": autosave = true; break;
+                    case "--verbose": verbose = true; break;
+                    case "--jmx": jmx = true; break;
+                    case "--salvo": mode = GameMode.SALVO; break;
+                    case "--seed": seed = Long.parseLong(args[++i]); break;
+                    case "--name": name = args[++i]; break;
+                    case "--help":
+                        System.out.println(USAGE);
+                        return;
+                    default:
+                        throw new IllegalArgumentException("Unknown option: " + args[i]);
+                }
+            }
+        } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+            System.err.println(e instanceof ArrayIndexOutOfBoundsException ? "Missing option value" : e.getMessage());
+            System.err.println(USAGE);
+            System.exit(2);
+            return;
+        }
+        if (!verbose) {
+            Log.setLevel(Level.WARNING);
+        }
+        if (!jmx) {
+            // Evita arrancar el servidor MBean, lo más lento del arranque
+            System.setProperty(Metrics.JMX_PROPERTY, "false");
+        }
+
+        Game game = new Game(name, seed, mode);
+        game.setAutosave(autosave);
+        placeFleet(game, new Random(seed));
+        game.startGamePlay();
+
+        BufferedReader in = new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8));
+        PrintWriter out = new PrintWriter(new BufferedWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8)));
+        try {
+            new ConsoleMain(game, script, in, out).play();
+        } finally {
+            out.flush();
+            Log.flush();
+        }
+    }
+
+    /**
+     * Places the human fleet at random positions.
+     */
+    private static void placeFleet(Game game, Random random) {
+        Board board = game.getHumanPlayer().getBoard();
+        for (ShipType type : Game.FLEET_CONFIGURATION) {
+            Ship ship = type.createShip();
+            for (int attempt = 0; attempt < MAX_PLACEMENT_ATTEMPTS; attempt++) {
+                int row = random.nextInt(Board.SIZE);
+                int col = random.nextInt(Board.SIZE);
+                Orientation orientation = random.nextBoolean() ? Orientation.HORIZONTAL : Orientation.VERTICAL;
+                if (board.canPlaceShip(ship, row, col, orientation)) {
+                    try {
+                        game.placeHumanShip(ship, row, col, orientation);
+                        break;
+                    } catch (InvalidShipPlacementException e) {
+                        // Probar otra posición
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Reads moves until the game is over or the input ends.
+     */
+    private void play() throws IOException {
+        if (!script) {
+            printBoards();
+        }
+        while (!isOver()) {
+            if (!script) {
+                out.print(game.getMode() == GameMode.SALVO
+                        ? "Your salvo of " + game.getSalvoSize() + " shots (e.g. B7 C3): "
+                        : "Your shot (e.g. B7): ");
+                out.flush();
+            } else if (!in.ready()) {
+                out.flush();
+            }
+            String line = in.readLine();
+            if (line == null) {
+                break;
+            }
+            line = line.trim();
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+            if (line.equalsIgnoreCase("quit")) {
+                break;
+            }
+            if (game.getMode() == GameMode.SALVO) {
+                playSalvoTurn(line);
+                continue;
+            }
+            Coordinate target = parseCell(line);
+            if (target == null) {
+                out.println("ERR " + line + " not a cell");
+                continue;
+            }
+            playTurn(target, line);
+        }
+        if (isOver()) {
+            boolean humanWins = game.getGameState() == GameState.GAME_OVER_HUMAN_WINS;
+            if (script) {
+                out.println("END " + (humanWins ? "HUMAN " + game.getHumanShots() : "MACHINE " + game.getMachineShots()));
+            } else {
+                out.println(humanWins ? "Congratulations! You won the naval battle"
+                        : "The machine has won. Better luck next time!");
+            }
+        }
+    }
+
+    /**
+     * Fires the human shot, then every machine shot until the turn comes back.
+     */
+    private void playTurn(Coordinate target, String move) {
+        ShotResult result;
+        try {
+            result = game.processPlayerShot(target);
+        } catch (CellAlreadyShotException e) {
+            out.println("ERR " + move + " already shot");
+            return;
+        }
+        report('H', target, result);
+        while (game.getGameState() == GameState.MACHINE_TURN) {
+            result = game.processMachineShot();
+            if (result == ShotResult.INVALID_SHOT || result == ShotResult.ALREADY_SHOT) {
+                break;
+            }
+            GameJournal journal = game.getJournal();
+            report('M', Coordinate.ofIndex(GameJournal.cellIndex(journal.get(journal.size() - 1))), result);
+        }
+        if (!script) {
+            printBoards();
+        }
+    }
+
+    /**
+     * Fires the human salvo, then the machine salvo.
+     */
+    private void playSalvoTurn(String line) {
+        String[] moves = line.split("[\\s,]+");
+        if (moves.length > game.getSalvoSize()) {
+            out.println("ERR " + line + " more than " + game.getSalvoSize() + " shots");
+            return;
+        }
+        int[] cells = new int[moves.length];
+        for (int i = 0; i < moves.length; i++) {
+            Coordinate target = parseCell(moves[i]);
+            if (target == null) {
+                out.println("ERR " + moves[i] + " not a cell");
+                return;
+            }
+            cells[i] = target.getIndex();
+        }
+        game.processPlayerSalvo(cells, salvoResults);
+        reportSalvo('H', cells);
+        if (game.getGameState() == GameState.MACHINE_TURN) {
+            cells = new int[game.getSalvoSize()];
+            game.processMachineSalvo(cells, salvoResults);
+            reportSalvo('M', cells);
+        }
+        if (!script) {
+            printBoards();
+        }
+    }
+
+    /**
+     * Prints every shot of a salvo that had a target.
+     */
+    private void reportSalvo(char shooter, int[] cells) {
+        for (int i = 0; i < cells.length; i++) {
+            ShotResult result = ShotResult.values()[salvoResults[i]];
+            if (result != ShotResult.INVALID_SHOT) {
+                report(shooter, Coordinate.ofIndex(cells[i]), result);
+            }
+        }
+    }
+
+    /**
+     * Prints one shot.
+     */
+    private void report(char shooter, Coordinate target, ShotResult result) {
+        if (script) {
+            out.print(shooter);
+            out.print(' ');
+            out.print(target);
+            out.print(' ');
+            out.println(result.name());
+        } else {
+            out.println((shooter == 'H' ? "You fire at " : "The machine fires at ")
+                    + target + ": " + result.name());
+        }
+    }
+
+    /**
+     * Draws the machine board as seen by the player and the player's own board.
+     */
+    private void printBoards() {
+        out.println();
+        out.println("Opponent                  Your fleet");
+        StringBuilder header = new StringBuilder("  ");
+        for (int col = 1; col <= Board.SIZE; col++) {
+            header.append(col % 10);
+            header.append(' ');
+        }
+        out.println(header + "    " + header);
+        for (int row = 0; row < Board.SIZE; row++) {
+            StringBuilder line = new StringBuilder();
+            appendRow(line, game.getMachinePlayer().getBoard(), row, false);
+            line.append("    ");
+            appendRow(line, game.getHumanPlayer().getBoard(), row, true);
+            out.println(line);
+        }
+        out.println();
+    }
+
+    /**
+     * Appends one board row: '.' unknown, 'O' ship, '~' water, 'X' hit, '#' sunk.
+     */
+    private static void appendRow(StringBuilder line, Board board, int row, boolean revealShips) {
+        line.append((char) ('A' + row)).append(' ');
+        for (int col = 0; col < Board.SIZE; col++) {
+            CellState state = board.getCellState(row, col);
+            char symbol;
+            if (state == CellState.WATER) {
+                symbol = '~';
+            } else if (state == CellState.HIT_SHIP_PART) {
+                symbol = 'X';
+            } else if (state == CellState.SUNK_SHIP_PART) {
+                symbol = '#';
+            } else {
+                symbol = revealShips && state == CellState.SHIP_PART ? 'O' : '.';
+            }
+            line.append(symbol).append(' ');
+        }
+    }
+
+    /**
+     * Parses a cell such as {@code B7} or {@code j10}.
+     *
+     * @return the cell, or null if the text is not a cell
+     */
+    private static Coordinate parseCell(String text) {
+        if (text.length() < 2 || text.length() > 3) {
+            return null;
+        }
+        int row = Character.toUpperCase(text.charAt(0)) - 'A';
+        int col = 0;
+        for (int i = 1; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c < '0' || c > '9') {
+                return null;
+            }
+            col = col * 10 + (c - '0');
+        }
+        col--;
+        return Coordinate.isValid(row, col) ? Coordinate.of(row, col) : null;
+    }
+
+    /**
+     * Checks whether one side has won.
+     */
+    private boolean isOver() {
+        GameState state = game.getGameState();
+        return state == GameState.GAME_OVER_HUMAN_WINS || state == GameState.GAME_OVER_MACHINE_WINS;
+    }
+}
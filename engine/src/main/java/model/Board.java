@@ -0,0 +1,722 @@
+package model;
+
+import model.exceptions.CellAlreadyShotException;
+import model.exceptions.InvalidShipPlacementException;
+import model.metrics.Metrics;
+import model.metrics.Timer;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Represents a game board in the Battle Naval Fury game.
+ * 
+ * <p>The board is a 10x10 grid that manages ship placement, shot tracking,
+ * and game state. Each board maintains its own collection of ships and
+ * tracks which cells have been targeted.</p>
+ *
+ * <p>The grid is kept as two flat arrays indexed by {@code row * SIZE + col}:
+ * one byte with the state of each cell and one short naming the ship on it,
+ * as an index into the ship list. A board holds no {@link Cell} objects;
+ * {@link #getCell(int, int)} creates a read-only view of a cell the first
+ * time it is asked for one.</p>
+ * 
+ * <p>Key responsibilities include:</p>
+ * <ul>
+ *   <li>Managing the grid of cells</li>
+ *   <li>Validating and placing ships</li>
+ *   <li>Processing shots and determining results</li>
+ *   <li>Tracking sunk ships</li>
+ * </ul>
+ * 
+ * @author Battle Naval Fury Team
+ * @version 1.0
+ * @since 1.0
+ * @see Cell
+ * @see Ship
+ * @see Player
+ */
+public class Board implements Serializable {
+    
+    /**
+     * Serial version UID for serialization compatibility. Version 2 stores
+     * flat cell arrays instead of cell objects; boards saved with version 1
+     * cannot be read
+     */
+    private static final long serialVersionUID = 2L;
+    
+    /** Standard board size (10x10 grid) */
+    public final static int SIZE = 10;
+
+    /** Cell states by ordinal */
+    private static final CellState[] CELL_STATES = CellState.values();
+
+    /**
+     * Cell state ordinals by cell index (row * SIZE + col). Shared with
+     * snapshots, so it is copied before a change when {@link #statesShared}
+     */
+    private byte[] states;
+
+    /** Ship on each cell, by cell index: 0 for none, otherwise its index in {@link #ships} plus one */
+    private short[] shipIds;
+
+    /** List of all ships placed on this board, in placement order */
+    private List<Ship> ships;
+    
+    /** Count of ships that have been completely sunk */
+    private int sunkShipsCount;
+
+    /** Listeners of cell changes, not saved with the board */
+    private transient List<BoardListener> listeners;
+
+    /** Whether {@link #states} is shared with a snapshot and must be copied before the next change */
+    private transient boolean statesShared;
+
+    /** Views of the cells created so far, by cell index; null until the first one is asked for */
+    private transient Cell[] cellViews;
+
+    /**
+     * Placed ships in placement order, packed as in {@link BoardSnapshot};
+     * replaced, never modified, so snapshots can share it. Null until
+     * rebuilt after loading
+     */
+    private transient int[] layout;
+
+    /**
+     * Ship placements in order, for undo and redo: entries before
+     * {@link #placementCursor} are on the board, later ones were undone.
+     * Not saved with the board
+     */
+    private transient List<Placement> placementLog;
+
+    /** Number of entries of {@link #placementLog} currently on the board */
+    private transient int placementCursor;
+
+    /**
+     * Cells not shot yet (row * SIZE + col), densely packed in the first
+     * {@link #unshotCount} entries in no particular order. Null until
+     * rebuilt after loading
+     */
+    private transient int[] unshotCells;
+
+    /** Position of each cell in {@link #unshotCells}, or -1 once shot */
+    private transient int[] unshotPositions;
+
+    /** Number of cells not shot yet */
+    private transient int unshotCount;
+
+    /**
+     * Creates a new empty board.
+     * 
+     * <p>All cells start empty and unshot. The board allocates its state
+     * and ship arrays only; no cell objects are created.</p>
+     */
+    public Board() {
+        this.states = new byte[SIZE * SIZE];
+        this.shipIds = new short[SIZE * SIZE];
+        this.ships = new ArrayList<Ship>();
+        this.sunkShipsCount = 0;
+        this.layout = new int[0];
+        rebuildUnshotIndex();
+    }
+
+    /**
+     * Gets a view of the cell at the specified coordinates.
+     *
+     * <p>The view is created the first time the cell is asked for and
+     * reflects the board from then on. Code that only needs the state or
+     * the ship of a cell should use {@link #getCellState(int, int)} and
+     * {@link #getShipAt(int, int)}, which allocate nothing.</p>
+     * 
+     * @param row the row coordinate (0-9)
+     * @param col the column coordinate (0-9)
+     * @return the Cell at the specified position, or null if coordinates are invalid
+     */
+    public Cell getCell(int row, int col) {
+        if (row >= 0 && row < SIZE && col >= 0 && col < SIZE) {
+            return cellView(row * SIZE + col);
+        }
+        return null;
+    }
+
+    /**
+     * Gets a view of the cell at a coordinate.
+     *
+     * @param at the coordinate of the cell
+     * @return the Cell at that position
+     */
+    public Cell getCell(Coordinate at) {
+        return cellView(at.getIndex());
+    }
+
+    /**
+     * Gets the view of a cell, creating it on first use.
+     */
+    private Cell cellView(int index) {
+        if (cellViews == null) {
+            cellViews = new Cell[SIZE * SIZE];
+        }
+        Cell view = cellViews[index];
+        if (view == null) {
+            view = new Cell(this, index);
+            cellViews[index] = view;
+        }
+        return view;
+    }
+
+    /**
+     * Gets the state of a cell.
+     *
+     * @param row the row coordinate (0-9)
+     * @param col the column coordinate (0-9)
+     * @return the cell state, or null if coordinates are invalid
+     */
+    public CellState getCellState(int row, int col) {
+        if (row < 0 || row >= SIZE || col < 0 || col >= SIZE) {
+            return null;
+        }
+        return CELL_STATES[states[row * SIZE + col]];
+    }
+
+    /**
+     * Gets the ship that occupies a cell.
+     *
+     * @param row the row coordinate (0-9)
+     * @param col the column coordinate (0-9)
+     * @return the ship on the cell, or null if there is none or coordinates are invalid
+     */
+    public Ship getShipAt(int row, int col) {
+        if (row < 0 || row >= SIZE || col < 0 || col >= SIZE) {
+            return null;
+        }
+        return shipAt(row * SIZE + col);
+    }
+
+    /**
+     * Gets the state of a cell by index, for {@link Cell} views.
+     */
+    CellState cellStateAt(int index) {
+        return CELL_STATES[states[index]];
+    }
+
+    /**
+     * Gets the ship on a cell by index, or null.
+     */
+    Ship shipAt(int index) {
+        int id = shipIds[index];
+        return id == 0 ? null : ships.get(id - 1);
+    }
+
+    public List<Ship> getShips() {
+        return ships;
+    }
+
+    /**
+     * Registers a listener of cell changes.
+     *
+     * @param listener the listener to add
+     * @throws IllegalArgumentException if listener is null
+     */
+    public void addListener(BoardListener listener) {
+        if (listener == null) {
+            throw new IllegalArgumentException("Listener cannot be null");
+        }
+        if (listeners == null) {
+            listeners = new ArrayList<>(2);
+        }
+        listeners.add(listener);
+    }
+
+    /**
+     * Removes a listener of cell changes.
+     *
+     * @param listener the listener to remove
+     */
+    public void removeListener(BoardListener listener) {
+        if (listeners != null) {
+            listeners.remove(listener);
+        }
+    }
+
+    public int getSunkShipsCount() {
+        return sunkShipsCount;
+    }
+
+    public boolean canPlaceShip(Ship ship, int startRow, int startCol, Orientation orientation) {
+        return canPlaceShip(ship.getSize(), startRow, startCol, orientation);
+    }
+
+    /**
+     * Checks whether a ship fits with its first cell at a coordinate
+     * without overlapping other ships.
+     *
+     * @param ship the ship to place
+     * @param start the coordinate of the first cell
+     * @param orientation the direction the ship extends in
+     * @return true if the ship can be placed there
+     */
+    public boolean canPlaceShip(Ship ship, Coordinate start, Orientation orientation) {
+        return canPlaceShip(ship.getSize(), start.getRow(), start.getCol(), orientation);
+    }
+
+    /**
+     * Places a ship with its first cell at a coordinate.
+     *
+     * @param ship the ship to place
+     * @param start the coordinate of the first cell
+     * @param orientation the direction the ship extends in
+     * @throws InvalidShipPlacementException if the ship doesn't fit there
+     */
+    public void placeShip(Ship ship, Coordinate start, Orientation orientation) throws InvalidShipPlacementException {
+        placeShip(ship, start.getRow(), start.getCol(), orientation);
+    }
+
+    /**
+     * Checks whether a ship of the given size fits at a position without
+     * overlapping other ships.
+     *
+     * @param shipSize the number of cells of the ship
+     * @param startRow the row of the first cell
+     * @param startCol the column of the first cell
+     * @param orientation the direction the ship extends in
+     * @return true if the ship can be placed there
+     */
+    public boolean canPlaceShip(int shipSize, int startRow, int startCol, Orientation orientation) {
+        if (startCol < 0 || startCol >= SIZE || startRow < 0 || startRow >= SIZE) {
+            return false;
+        }
+
+        if (orientation == Orientation.HORIZONTAL) {
+            if (startCol + shipSize > SIZE) return false;
+        } else {
+            if (startRow + shipSize > SIZE) return false;
+        }
+        int step = orientation == Orientation.HORIZONTAL ? 1 : SIZE;
+        int cell = startRow * SIZE + startCol;
+        for (int i = 0; i < shipSize; i++, cell += step) {
+            if (shipIds[cell] != 0) return false;
+        }
+        return true;
+    }
+
+    public void placeShip(Ship ship, int startRow, int startCol, Orientation orientation) throws InvalidShipPlacementException {
+        if (!canPlaceShip(ship, startRow, startCol, orientation)) {
+            throw new InvalidShipPlacementException("No se puede colocar el barco de tipo " + ship.getType().getDisplayName() +
+                    " en (" + startRow + "," + startCol + ") con orientación " + orientation);
+        }
+
+        discardRedo();
+        if (placementLog == null) {
+            placementLog = new ArrayList<>();
+        }
+        placementLog.add(new Placement(ship, startRow, startCol, orientation));
+        placementCursor++;
+        occupy(ship, startRow, startCol, orientation);
+    }
+
+    /**
+     * Puts a ship on its cells, already checked to be free.
+     */
+    private void occupy(Ship ship, int startRow, int startCol, Orientation orientation) {
+        ships.add(ship);
+        ship.place(this, startRow * SIZE + startCol, orientation);
+        short id = (short) ships.size();
+        for (int i = 0; i < ship.getSize(); i++) {
+            int cell = ship.getCellIndex(i);
+            shipIds[cell] = id;
+            setState(cell, CellState.SHIP_PART);
+        }
+        if (layout != null) {
+            layout = appendShip(layout, ship, startRow, startCol, orientation);
+        }
+        fireShipChanged(ship);
+    }
+
+    /**
+     * Checks whether there is a ship placement to undo.
+     *
+     * @return true if {@link #undoPlacement()} would remove a ship
+     */
+    public boolean canUndoPlacement() {
+        return placementCursor > 0;
+    }
+
+    /**
+     * Checks whether there is an undone ship placement to redo.
+     *
+     * @return true if {@link #redoPlacement()} would place a ship again
+     */
+    public boolean canRedoPlacement() {
+        return placementLog != null && placementCursor < placementLog.size();
+    }
+
+    /**
+     * Takes back the last ship placement.
+     *
+     * <p>Only the cells of that ship change, so undoing costs time
+     * proportional to the ship size. Ships placed before the board was
+     * loaded from a save cannot be undone.</p>
+     *
+     * @return the removed ship, or null if there is nothing to undo
+     * @throws IllegalStateException if the ship has already been hit
+     */
+    public Ship undoPlacement() {
+        if (!canUndoPlacement()) {
+            return null;
+        }
+        Ship ship = placementLog.get(placementCursor - 1).ship;
+        if (ship.getHits() > 0) {
+            throw new IllegalStateException("Cannot undo the placement of a ship that was hit");
+        }
+        placementCursor--;
+
+        int index = ships.lastIndexOf(ship);
+        ships.remove(index);
+        if (layout != null) {
+            int[] shrunk = Arrays.copyOf(layout, layout.length - 1);
+            System.arraycopy(layout, index + 1, shrunk, index, shrunk.length - index);
+            layout = shrunk;
+        }
+        if (index < ships.size()) {
+            // Los barcos posteriores bajan un puesto en la lista
+            for (int cell = 0; cell < SIZE * SIZE; cell++) {
+                if (shipIds[cell] > index + 1) {
+                    shipIds[cell]--;
+                }
+            }
+        }
+        for (int i = 0; i < ship.getSize(); i++) {
+            int cell = ship.getCellIndex(i);
+            shipIds[cell] = 0;
+            setState(cell, CellState.EMPTY);
+            fireCellChanged(cell);
+        }
+        ship.remove();
+        return ship;
+    }
+
+    /**
+     * Places again the last undone ship, at the same position.
+     *
+     * @return the placed ship, or null if there is nothing to redo
+     */
+    public Ship redoPlacement() {
+        if (!canRedoPlacement()) {
+            return null;
+        }
+        Placement placement = placementLog.get(placementCursor++);
+        occupy(placement.ship, placement.row, placement.col, placement.orientation);
+        return placement.ship;
+    }
+
+    /**
+     * Forgets the undone placements; any other change to the board makes them stale.
+     */
+    private void discardRedo() {
+        if (placementLog != null && placementCursor < placementLog.size()) {
+            placementLog.subList(placementCursor, placementLog.size()).clear();
+        }
+    }
+
+    public ShotResult receiveShot(int row, int col) throws CellAlreadyShotException {
+        long start = Timer.start();
+        try {
+            ShotResult result = resolveShot(row, col);
+            if (result == ShotResult.ALREADY_SHOT) {
+                throw new CellAlreadyShotException("Celda (" + row + "," + col + ") ya disparada.");
+            }
+            return result;
+        } finally {
+            Metrics.RECEIVE_SHOT.stop(start);
+        }
+    }
+
+    /**
+     * Resolves a shot at a coordinate.
+     *
+     * @param target the targeted cell
+     * @return the result of the shot
+     * @throws CellAlreadyShotException if the cell was already shot
+     */
+    public ShotResult receiveShot(Coordinate target) throws CellAlreadyShotException {
+        return receiveShot(target.getRow(), target.getCol());
+    }
+
+    /**
+     * Resolves several shots in order, as in a salvo.
+     *
+     * <p>Unlike {@link #receiveShot(int, int)} this never throws and
+     * allocates nothing: a cell that was already shot, including one
+     * repeated inside the same batch, gets {@link ShotResult#ALREADY_SHOT}
+     * and a cell outside the board gets {@link ShotResult#INVALID_SHOT}.</p>
+     *
+     * @param packedCoords the target cells, as {@link Coordinate#getIndex()} values
+     * @param resultsOut receives the {@link ShotResult} ordinal of each shot,
+     *        at the same index as its cell; must be at least as long as packedCoords
+     * @return the number of shots that hit a ship
+     * @throws IllegalArgumentException if resultsOut is shorter than packedCoords
+     */
+    public int receiveShots(int[] packedCoords, byte[] resultsOut) {
+        if (resultsOut.length < packedCoords.length) {
+            throw new IllegalArgumentException("Results array is shorter than the shot array");
+        }
+        long start = Timer.start();
+        int hits = 0;
+        for (int i = 0; i < packedCoords.length; i++) {
+            int cell = packedCoords[i];
+            ShotResult result = cell >= 0 && cell < SIZE * SIZE
+                    ? resolveShot(cell / SIZE, cell % SIZE) : ShotResult.INVALID_SHOT;
+            if (result == ShotResult.TOUCH || result == ShotResult.SUNK) {
+                hits++;
+            }
+            resultsOut[i] = (byte) result.ordinal();
+        }
+        Metrics.RECEIVE_SALVO.stop(start);
+        return hits;
+    }
+
+    /**
+     * Applies a shot to the target cell and its ship, if any.
+     */
+    private ShotResult resolveShot(int row, int col) {
+        if (row < 0 || row >= SIZE || col < 0 || col >= SIZE) {
+            return ShotResult.INVALID_SHOT;
+        }
+        int cell = row * SIZE + col;
+        if (isShotState(states[cell])) {
+            return ShotResult.ALREADY_SHOT;
+        }
+        discardRedo();
+        removeUnshot(cell);
+
+        Ship shipPart = shipAt(cell);
+        if (shipPart != null) {
+            boolean justSunk = shipPart.registerHit(Coordinate.ofIndex(cell));
+            setState(cell, CellState.HIT_SHIP_PART);
+            if (justSunk) {
+                sunkShipsCount++;
+                for (int i = 0; i < shipPart.getSize(); i++) {
+                    setState(shipPart.getCellIndex(i), CellState.SUNK_SHIP_PART);
+                }
+                fireShipChanged(shipPart);
+                return ShotResult.SUNK;
+            }
+            fireCellChanged(cell);
+            return ShotResult.TOUCH;
+        } else {
+            setState(cell, CellState.WATER);
+            fireCellChanged(cell);
+            return ShotResult.WATER;
+        }
+    }
+
+    /**
+     * Checks whether a state ordinal belongs to a cell that was shot.
+     */
+    private static boolean isShotState(byte state) {
+        return state == CellState.WATER.ordinal() || state == CellState.HIT_SHIP_PART.ordinal()
+                || state == CellState.SUNK_SHIP_PART.ordinal();
+    }
+
+    /**
+     * Gets the number of cells not shot yet.
+     *
+     * @return the unshot cell count
+     */
+    public int getUnshotCount() {
+        if (unshotCells == null) {
+            rebuildUnshotIndex();
+        }
+        return unshotCount;
+    }
+
+    /**
+     * Gets one of the cells not shot yet, by position in the unshot index.
+     *
+     * <p>Positions run from 0 to {@link #getUnshotCount()} - 1, so a random
+     * unshot cell is {@code getUnshotCell(random.nextInt(getUnshotCount()))}:
+     * constant time and no allocation. Shots reorder the index, so a
+     * position only names the same cell until the next shot.</p>
+     *
+     * @param position the position in the index
+     * @return the cell, as {@code row * SIZE + col}
+     * @throws IndexOutOfBoundsException if position is not below the unshot count
+     */
+    public int getUnshotCell(int position) {
+        if (position < 0 || position >= getUnshotCount()) {
+            throw new IndexOutOfBoundsException("Unshot position " + position + " out of " + unshotCount);
+        }
+        return unshotCells[position];
+    }
+
+    /**
+     * Rebuilds the unshot index from the cell states.
+     */
+    private void rebuildUnshotIndex() {
+        unshotCells = new int[SIZE * SIZE];
+        unshotPositions = new int[SIZE * SIZE];
+        unshotCount = 0;
+        for (int cell = 0; cell < SIZE * SIZE; cell++) {
+            if (isShotState(states[cell])) {
+                unshotPositions[cell] = -1;
+            } else {
+                unshotPositions[cell] = unshotCount;
+                unshotCells[unshotCount++] = cell;
+            }
+        }
+    }
+
+    /**
+     * Removes a shot cell from the unshot index by moving the last entry into its place.
+     */
+    private void removeUnshot(int cell) {
+        if (unshotCells == null) {
+            return;
+        }
+        int position = unshotPositions[cell];
+        int last = unshotCells[--unshotCount];
+        unshotCells[position] = last;
+        unshotPositions[last] = position;
+        unshotPositions[cell] = -1;
+    }
+
+    /**
+     * Takes an immutable copy of the board.
+     *
+     * <p>The snapshot shares its arrays with the board: taking it is
+     * constant time, and the board copies its 100-byte state array only on
+     * the first change after a snapshot. Consecutive snapshots share the
+     * ship layout until a ship is placed.</p>
+     *
+     * @return the current state of the board
+     */
+    public BoardSnapshot snapshot() {
+        if (layout == null) {
+            rebuildLayout();
+        }
+        statesShared = true;
+        return new BoardSnapshot(states, layout, sunkShipsCount);
+    }
+
+    /**
+     * Rebuilds the packed ship layout from the ships, for boards loaded from a save.
+     */
+    private void rebuildLayout() {
+        int[] rebuilt = new int[0];
+        for (Ship ship : ships) {
+            Coordinate start = ship.getStart();
+            rebuilt = appendShip(rebuilt, ship, start.getRow(), start.getCol(), ship.getOrientation());
+        }
+        layout = rebuilt;
+    }
+
+    /**
+     * Returns a new layout with one more ship.
+     */
+    private static int[] appendShip(int[] layout, Ship ship, int row, int col, Orientation orientation) {
+        int[] grown = Arrays.copyOf(layout, layout.length + 1);
+        grown[layout.length] = BoardSnapshot.packShip(ship.getType(), row * SIZE + col, orientation);
+        return grown;
+    }
+
+    /**
+     * Sets the state of a cell, first copying the state array if a snapshot shares it.
+     */
+    private void setState(int cell, CellState state) {
+        if (statesShared) {
+            states = states.clone();
+            statesShared = false;
+        }
+        states[cell] = (byte) state.ordinal();
+    }
+
+    /**
+     * Reports a changed cell to the listeners.
+     */
+    private void fireCellChanged(int cell) {
+        if (listeners == null) {
+            return;
+        }
+        CellState state = cellStateAt(cell);
+        for (BoardListener listener : listeners) {
+            listener.cellChanged(cell / SIZE, cell % SIZE, state);
+        }
+    }
+
+    /**
+     * Reports every cell of a ship.
+     */
+    private void fireShipChanged(Ship ship) {
+        for (int i = 0; i < ship.getSize(); i++) {
+            fireCellChanged(ship.getCellIndex(i));
+        }
+    }
+    public boolean allShipsSunk() {
+        if (ships.isEmpty() && sunkShipsCount == 0) return false;
+        return sunkShipsCount == ships.size();
+    }
+    public void resetBoard() {
+        for (Ship ship : ships) {
+            ship.remove();
+        }
+        ships.clear();
+        sunkShipsCount = 0;
+        states = new byte[SIZE * SIZE];
+        statesShared = false;
+        shipIds = new short[SIZE * SIZE];
+        layout = new int[0];
+        placementLog = null;
+        placementCursor = 0;
+        rebuildUnshotIndex();
+        if (listeners != null) {
+            for (BoardListener listener : listeners) {
+                listener.boardReset();
+            }
+        }
+    }
+    public boolean hasShip(int row, int col) {
+        if (row < 0 || row >= SIZE || col < 0 || col >= SIZE) {
+            return false;
+        }
+        return shipIds[row * SIZE + col] != 0;
+    }
+    /**
+     * Checks whether a cell has been shot.
+     *
+     * @param at the coordinate of the cell
+     * @return true if the cell was shot
+     */
+    public boolean wasShot(Coordinate at) {
+        return isShotState(states[at.getIndex()]);
+    }
+    public boolean wasShot(int row, int col) {
+        if (row < 0 || row >= SIZE || col < 0 || col >= SIZE) {
+            return false;
+        }
+        return isShotState(states[row * SIZE + col]);
+    }
+
+    /**
+     * One entry of the placement log.
+     */
+    private static final class Placement {
+
+        /** The placed ship */
+        final Ship ship;
+
+        /** Row and column of the first cell */
+        final int row, col;
+
+        /** The direction the ship extends in */
+        final Orientation orientation;
+
+        Placement(Ship ship, int row, int col, Orientation orientation) {
+            this.ship = ship;
+            this.row = row;
+            this.col = col;
+            this.orientation = orientation;
+        }
+    }
+}
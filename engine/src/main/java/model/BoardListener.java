@@ -0,0 +1,32 @@
+package model;
+
+/**
+ * Receives the cells of a {@link Board} that change state.
+ *
+ * <p>Placing a ship reports each of its cells, a shot reports the target
+ * cell, and a shot that sinks a ship reports every cell of that ship, so
+ * a view only has to repaint what actually changed. Events are delivered
+ * synchronously on the thread that modifies the board.</p>
+ *
+ * @author Battle Naval Fury Team
+ * @version 1.0
+ * @since 1.0
+ * @see Board#addListener(BoardListener)
+ */
+public interface BoardListener {
+
+    /**
+     * Called after a cell changes state.
+     *
+     * @param row the row of the cell
+     * @param col the column of the cell
+     * @param state the new state of the cell
+     */
+    void cellChanged(int row, int col, CellState state);
+
+    /**
+     * Called after every cell of the board has been reset to empty.
+     */
+    default void boardReset() {
+    }
+}
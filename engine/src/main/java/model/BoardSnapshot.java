@@ -0,0 +1,232 @@
+package model;
+
+import model.exceptions.CellAlreadyShotException;
+import model.exceptions.InvalidShipPlacementException;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+/**
+ * Immutable copy of a {@link Board} at one moment.
+ *
+ * <p>A snapshot is two primitive arrays: the state of every cell and the
+ * fleet layout (type, first cell and orientation of each ship, in placement
+ * order). Boards hand their own arrays to the snapshot and copy them on
+ * the next change, so {@link Board#snapshot()} costs no cell walk and
+ * snapshots taken between changes share their data. A snapshot can be
+ * read from any thread, kept for undo or lookahead, or turned back into a
+ * live board with {@link #toBoard()}.</p>
+ *
+ * @author Battle Naval Fury Team
+ * @version 1.0
+ * @since 1.0
+ * @see Board#snapshot()
+ */
+public final class BoardSnapshot implements Serializable {
+
+    /** Serial version UID for serialization compatibility */
+    private static final long serialVersionUID = 1L;
+
+    /** Cell states by ordinal */
+    private static final CellState[] CELL_STATES = CellState.values();
+
+    /** Ship types by ordinal */
+    private static final ShipType[] SHIP_TYPES = ShipType.values();
+
+    /** Orientations by ordinal */
+    private static final Orientation[] ORIENTATIONS = Orientation.values();
+
+    /** Cell state ordinals by cell index (row * SIZE + col); never modified */
+    private final byte[] states;
+
+    /** Ships packed by {@link #packShip}; never modified */
+    private final int[] layout;
+
+    /** Number of sunk ships */
+    private final int sunkShipsCount;
+
+    /**
+     * Creates a snapshot over arrays the caller will not modify any more.
+     */
+    BoardSnapshot(byte[] states, int[] layout, int sunkShipsCount) {
+        this.states = states;
+        this.layout = layout;
+        this.sunkShipsCount = sunkShipsCount;
+    }
+
+    /**
+     * Packs a ship of the layout: type in bits 0-2, orientation in bit 3
+     * and first cell index from bit 4.
+     */
+    static int packShip(ShipType type, int startCell, Orientation orientation) {
+        return type.ordinal() | orientation.ordinal() << 3 | startCell << 4;
+    }
+
+    /**
+     * Gets the state of a cell.
+     *
+     * @param row the row of the cell
+     * @param col the column of the cell
+     * @return the cell state
+     * @throws IndexOutOfBoundsException if the cell is outside the board
+     */
+    public CellState getCellState(int row, int col) {
+        return CELL_STATES[states[index(row, col)]];
+    }
+
+    /**
+     * Checks whether a cell holds part of a ship.
+     *
+     * @param row the row of the cell
+     * @param col the column of the cell
+     * @return true if a ship occupies the cell
+     * @throws IndexOutOfBoundsException if the cell is outside the board
+     */
+    public boolean hasShip(int row, int col) {
+        CellState state = getCellState(row, col);
+        return state != CellState.EMPTY && state != CellState.WATER;
+    }
+
+    /**
+     * Checks whether a cell has been shot.
+     *
+     * @param row the row of the cell
+     * @param col the column of the cell
+     * @return true if the cell was shot
+     * @throws IndexOutOfBoundsException if the cell is outside the board
+     */
+    public boolean wasShot(int row, int col) {
+        CellState state = getCellState(row, col);
+        return state != CellState.EMPTY && state != CellState.SHIP_PART;
+    }
+
+    /**
+     * Gets the number of placed ships.
+     *
+     * @return the ship count
+     */
+    public int getShipCount() {
+        return layout.length;
+    }
+
+    /**
+     * Gets the type of a ship.
+     *
+     * @param ship the ship index, in placement order
+     * @return the ship type
+     */
+    public ShipType getShipType(int ship) {
+        return SHIP_TYPES[layout[ship] & 7];
+    }
+
+    /**
+     * Gets the orientation of a ship.
+     *
+     * @param ship the ship index, in placement order
+     * @return the orientation
+     */
+    public Orientation getShipOrientation(int ship) {
+        return ORIENTATIONS[(layout[ship] >>> 3) & 1];
+    }
+
+    /**
+     * Gets the row of the first cell of a ship.
+     *
+     * @param ship the ship index, in placement order
+     * @return the start row
+     */
+    public int getShipRow(int ship) {
+        return (layout[ship] >>> 4) / Board.SIZE;
+    }
+
+    /**
+     * Gets the column of the first cell of a ship.
+     *
+     * @param ship the ship index, in placement order
+     * @return the start column
+     */
+    public int getShipCol(int ship) {
+        return (layout[ship] >>> 4) % Board.SIZE;
+    }
+
+    /**
+     * Gets the number of sunk ships.
+     *
+     * @return the sunk ship count
+     */
+    public int getSunkShipsCount() {
+        return sunkShipsCount;
+    }
+
+    /**
+     * Checks whether every ship is sunk, with the same rule as {@link Board#allShipsSunk()}.
+     *
+     * @return true if the fleet is sunk
+     */
+    public boolean allShipsSunk() {
+        return layout.length > 0 && sunkShipsCount == layout.length;
+    }
+
+    /**
+     * Places a new copy of every ship of this snapshot on a board, without shots.
+     *
+     * @param board the board to place the fleet on
+     * @throws InvalidShipPlacementException if a ship overlaps one already on the board
+     */
+    public void copyFleetTo(Board board) throws InvalidShipPlacementException {
+        for (int ship = 0; ship < layout.length; ship++) {
+            board.placeShip(getShipType(ship).createShip(), getShipRow(ship), getShipCol(ship),
+                    getShipOrientation(ship));
+        }
+    }
+
+    /**
+     * Builds a live board in this state: the same fleet with the same shots.
+     *
+     * @return a new board
+     */
+    public Board toBoard() {
+        Board board = new Board();
+        try {
+            copyFleetTo(board);
+            for (int cell = 0; cell < states.length; cell++) {
+                if (wasShot(cell / Board.SIZE, cell % Board.SIZE)) {
+                    board.receiveShot(cell / Board.SIZE, cell % Board.SIZE);
+                }
+            }
+        } catch (InvalidShipPlacementException | CellAlreadyShotException e) {
+            // Una instantánea siempre proviene de un tablero válido
+            throw new IllegalStateException("Inconsistent board snapshot", e);
+        }
+        return board;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof BoardSnapshot)) {
+            return false;
+        }
+        BoardSnapshot snapshot = (BoardSnapshot) other;
+        return sunkShipsCount == snapshot.sunkShipsCount
+                && Arrays.equals(states, snapshot.states)
+                && Arrays.equals(layout, snapshot.layout);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Arrays.hashCode(states) + Arrays.hashCode(layout);
+    }
+
+    /**
+     * Gets the index of a cell, checking its bounds.
+     */
+    private static int index(int row, int col) {
+        if (row < 0 || row >= Board.SIZE || col < 0 || col >= Board.SIZE) {
+            throw new IndexOutOfBoundsException("Cell (" + row + "," + col + ") is outside the board");
+        }
+        return row * Board.SIZE + col;
+    }
+}
@@ -0,0 +1,117 @@
+package model;
+
+/**
+ * Represents a single cell on the game board in the naval battle game.
+ * 
+ * <p>Each cell has a position defined by row and column coordinates,
+ * a state that indicates its current condition (empty, contains ship,
+ * hit, etc.), and an optional reference to a ship part if the cell
+ * is occupied by a ship.</p>
+ * 
+ * <p>A cell is a read-only view of one position of a {@link Board}: the
+ * board keeps the state and ship of every cell in flat arrays and creates
+ * a view only when one is asked for, so a cell always reflects the
+ * current board. Changes go through the board.</p>
+ * 
+ * @author Battle Naval Fury Team
+ * @version 1.0
+ * @since 1.0
+ * @see CellState
+ * @see Ship
+ * @see Board
+ */
+public final class Cell {
+
+    /**
+     * The board this cell belongs to.
+     */
+    private final Board board;
+
+    /**
+     * The index of this cell on the board ({@code row * Board.SIZE + col}).
+     */
+    private final int index;
+
+    /**
+     * Constructs a view of a cell of a board.
+     * 
+     * @param board the board holding the cell
+     * @param index the index of the cell
+     */
+    Cell(Board board, int index) {
+        this.board = board;
+        this.index = index;
+    }
+
+    /**
+     * Gets the row position of this cell.
+     * 
+     * @return the row coordinate (0-based)
+     */
+    public int getRow() {
+        return index / Board.SIZE;
+    }
+
+    /**
+     * Gets the column position of this cell.
+     * 
+     * @return the column coordinate (0-based)
+     */
+    public int getCol() {
+        return index % Board.SIZE;
+    }
+
+    /**
+     * Gets the coordinate of this cell.
+     *
+     * @return the coordinate
+     */
+    public Coordinate getCoordinate() {
+        return Coordinate.ofIndex(index);
+    }
+
+    /**
+     * Gets the current state of this cell.
+     * 
+     * @return the cell state
+     */
+    public CellState getCellState() {
+        return board.cellStateAt(index);
+    }
+
+    /**
+     * Gets the ship part occupying this cell.
+     * 
+     * @return the ship occupying this cell, or null if the cell is empty
+     */
+    public Ship getShipPart() {
+        return board.shipAt(index);
+    }
+
+    /**
+     * Checks if this cell has been shot at.
+     * 
+     * <p>A cell is considered shot if its state is WATER (missed shot),
+     * HIT_SHIP_PART (successful hit), or SUNK_SHIP_PART (part of sunk ship).</p>
+     * 
+     * @return true if the cell has been shot at, false otherwise
+     */
+    boolean isShot(){
+        CellState cellState = getCellState();
+        return cellState == CellState.WATER || cellState == CellState.HIT_SHIP_PART || cellState == CellState.SUNK_SHIP_PART;
+    }
+
+    /**
+     * Returns a string representation of this cell.
+     * 
+     * <p>Includes the cell coordinates, state, and ship information
+     * if a ship occupies this cell.</p>
+     * 
+     * @return a formatted string describing this cell
+     */
+    @Override
+    public String toString() {
+        Ship shipPart = getShipPart();
+        return "(" + getRow() + "," + getCol() + ") " + getCellState() + (shipPart != null ? " [" + shipPart.getType().getDisplayName() + "]" : "");
+    }
+}
@@ -0,0 +1,114 @@
+package model;
+
+/**
+ * A cell of a {@link Board}, identified by its packed index
+ * {@code row * Board.SIZE + col}.
+ *
+ * <p>There is exactly one instance per cell, created up front, so
+ * obtaining a coordinate never allocates and instances can be compared
+ * with {@code ==}. Passing coordinates instead of separate row and column
+ * arguments keeps the two from being swapped by mistake.</p>
+ *
+ * @author Battle Naval Fury Team
+ * @version 1.0
+ * @since 1.0
+ * @see Board
+ */
+public final class Coordinate {
+
+    /** Number of cells of a board */
+    public static final int CELL_COUNT = Board.SIZE * Board.SIZE;
+
+    /** Every coordinate, by index */
+    private static final Coordinate[] CELLS = new Coordinate[CELL_COUNT];
+
+    static {
+        for (int index = 0; index < CELL_COUNT; index++) {
+            CELLS[index] = new Coordinate(index);
+        }
+    }
+
+    /** Packed index of the cell */
+    private final int index;
+
+    private Coordinate(int index) {
+        this.index = index;
+    }
+
+    /**
+     * Gets the coordinate of a cell.
+     *
+     * @param row the row of the cell (0-9)
+     * @param col the column of the cell (0-9)
+     * @return the coordinate
+     * @throws IllegalArgumentException if the cell is outside the board
+     */
+    public static Coordinate of(int row, int col) {
+        if (!isValid(row, col)) {
+            throw new IllegalArgumentException("Cell (" + row + "," + col + ") is outside the board");
+        }
+        return CELLS[row * Board.SIZE + col];
+    }
+
+    /**
+     * Gets the coordinate of a packed cell index.
+     *
+     * @param index the index, {@code row * Board.SIZE + col}
+     * @return the coordinate
+     * @throws IllegalArgumentException if the index is outside the board
+     */
+    public static Coordinate ofIndex(int index) {
+        if (index < 0 || index >= CELL_COUNT) {
+            throw new IllegalArgumentException("Cell index " + index + " is outside the board");
+        }
+        return CELLS[index];
+    }
+
+    /**
+     * Checks whether a row and column are inside the board.
+     *
+     * @param row the row
+     * @param col the column
+     * @return true if {@link #of(int, int)} accepts them
+     */
+    public static boolean isValid(int row, int col) {
+        return row >= 0 && row < Board.SIZE && col >= 0 && col < Board.SIZE;
+    }
+
+    /**
+     * Gets the row of the cell.
+     *
+     * @return the row (0-9)
+     */
+    public int getRow() {
+        return index / Board.SIZE;
+    }
+
+    /**
+     * Gets the column of the cell.
+     *
+     * @return the column (0-9)
+     */
+    public int getCol() {
+        return index % Board.SIZE;
+    }
+
+    /**
+     * Gets the packed index of the cell.
+     *
+     * @return {@code row * Board.SIZE + col}
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    /**
+     * Returns the cell as shown on the board: a row letter and a column number, such as {@code B7}.
+     *
+     * @return the cell name
+     */
+    @Override
+    public String toString() {
+        return (char) ('A' + getRow()) + Integer.toString(getCol() + 1);
+    }
+}
@@ -0,0 +1,846 @@
+package model;
+
+import model.exceptions.CellAlreadyShotException;
+import model.exceptions.InvalidShipPlacementException;
+import model.events.Recording;
+import model.events.ShotEvent;
+import model.logging.Log;
+import model.persistence.GameSerializer;
+import model.persistence.MatchHistoryStore;
+import model.persistence.MatchRecord;
+import model.persistence.SaveMetadata;
+import model.persistence.SaveSlotInfo;
+import model.persistence.ScorePersistence;
+import model.persistence.SlotSaveFile;
+import model.replay.GameJournal;
+import model.stats.GameEvents;
+
+import java.io.Serializable;
+import java.lang.System.Logger.Level;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Main game controller class for the Battle Naval Fury game.
+ * 
+ * <p>This class manages the complete game state, including both human and machine
+ * players, game flow, turn management, and ship placement validation. It serves
+ * as the central coordinator for all game operations.</p>
+ * 
+ * <p>The game follows the classic Battleship rules with the following fleet configuration:</p>
+ * <ul>
+ *   <li>1 Aircraft Carrier (5 cells)</li>
+ *   <li>2 Submarines (3 cells each)</li>
+ *   <li>3 Destroyers (2 cells each)</li>
+ *   <li>4 Frigates (1 cell each)</li>
+ * </ul>
+ * 
+ * <p>The game supports automatic saving and loading of game states through
+ * serialization mechanisms.</p>
+ * 
+ * @author Battle Naval Fury Team
+ * @version 1.0
+ * @since 1.0
+ * @see Player
+ * @see HumanPlayer
+ * @see MachinePlayer
+ * @see GameState
+ */
+public class Game implements Serializable {
+
+    /** Logger of this class */
+    private static final System.Logger LOGGER = Log.getLogger(Game.class);
+    
+    /** Serial version UID for serialization compatibility */
+    private static final long serialVersionUID = 1L;
+
+    /** The human player instance */
+    private HumanPlayer humanPlayer;
+    
+    /** The machine/AI player instance */
+    private MachinePlayer machinePlayer;
+    
+    /** Reference to the current active player */
+    private Player currentPlayer;
+    
+    /** Current state of the game */
+    private GameState gameState;
+    
+    /** Nickname of the human player */
+    private String humanNickname;
+
+    /** Slot of the shared slot save file used for autosaves, or null for the single save file */
+    private Integer saveSlot;
+
+    /** Record of every placement and shot, used for replays */
+    private GameJournal journal;
+
+    /** Seed of the machine player's random decisions */
+    private long seed;
+
+    /** Shots fired by the human player */
+    private int humanShots;
+
+    /** Shots fired by the machine player */
+    private int machineShots;
+
+    /** Time of the last shot (System.nanoTime), or 0 before the first shot */
+    private transient long lastShotNanos;
+
+    /** Time the game was created, in epoch milliseconds */
+    private long startedAtMillis;
+
+    /** Whether the result of this game was already added to the match history */
+    private boolean matchRecorded;
+
+    /** Whether automatic saves after each placement and shot are turned off */
+    private transient boolean autosaveDisabled;
+
+    /** Rule variant of this game, or null (classic) for games saved before modes existed */
+    private GameMode mode;
+
+    /** Shot results by ordinal, to decode salvo results */
+    private static final ShotResult[] SHOT_RESULTS = ShotResult.values();
+
+    /**
+     * Standard fleet configuration for both players.
+     * Defines the types and quantities of ships available in the game.
+     */
+    public static final List<ShipType> FLEET_CONFIGURATION = List.of(
+            ShipType.AIRCRAFT_CARRIER,
+            ShipType.SUBMARINE, ShipType.SUBMARINE,
+            ShipType.DESTROYER, ShipType.DESTROYER, ShipType.DESTROYER,
+            ShipType.FRIGATE, ShipType.FRIGATE, ShipType.FRIGATE, ShipType.FRIGATE
+    );
+
+    /**
+     * Creates a new game with the specified human player nickname.
+     * 
+     * <p>Initializes a new game instance with a human player and machine player.
+     * The machine player automatically places its ships, while the human player
+     * starts in ship placement phase.</p>
+     * 
+     * @param humanNickname the nickname for the human player
+     * @throws IllegalArgumentException if humanNickname is null or empty
+     */
+    public Game(String humanNickname) {
+        this(humanNickname, new Random().nextLong());
+    }
+
+    /**
+     * Creates a new game whose machine player chooses its shots from a given seed.
+     *
+     * @param humanNickname the nickname for the human player
+     * @param seed the seed of the machine player's random decisions
+     * @throws IllegalArgumentException if humanNickname is null or empty
+     */
+    public Game(String humanNickname, long seed) {
+        this(humanNickname, seed, GameMode.CLASSIC);
+    }
+
+    /**
+     * Creates a new game played with a given rule variant.
+     *
+     * @param humanNickname the nickname for the human player
+     * @param seed the seed of the machine player's random decisions
+     * @param mode the rule variant
+     * @throws IllegalArgumentException if humanNickname is null or empty, or mode is null
+     */
+    public Game(String humanNickname, long seed, GameMode mode) {
+        if (humanNickname == null || humanNickname.trim().isEmpty()) {
+            throw new IllegalArgumentException("Human nickname cannot be null or empty");
+        }
+        if (mode == null) {
+            throw new IllegalArgumentException("Game mode cannot be null");
+        }
+        this.mode = mode;
+
+        this.humanNickname = humanNickname;
+        this.humanPlayer = new HumanPlayer(humanNickname);
+        this.seed = seed;
+        this.startedAtMillis = System.currentTimeMillis();
+        this.machinePlayer = new MachinePlayer("Máquina", seed);
+        this.machinePlayer.placeShips();
+        this.journal = new GameJournal();
+        this.journal.recordFleet(true, machinePlayer.getBoard());
+        this.currentPlayer = humanPlayer;
+        this.gameState = GameState.SHIP_PLACEMENT;
+    }
+
+    /**
+     * Creates a game instance from existing game components (used for loading saved games).
+     * 
+     * @param human the human player instance
+     * @param machine the machine player instance  
+     * @param current the current active player
+     * @param state the current game state
+     * @param nickname the human player's nickname
+     */
+    public Game(HumanPlayer human, MachinePlayer machine, Player current, GameState state, String nickname) {
+        this(human, machine, current, state, nickname, GameMode.CLASSIC);
+    }
+
+    /**
+     * Creates a game instance from existing game components and its rule variant.
+     *
+     * @param human the human player instance
+     * @param machine the machine player instance
+     * @param current the current active player
+     * @param state the current game state
+     * @param nickname the human player's nickname
+     * @param mode the rule variant
+     */
+    public Game(HumanPlayer human, MachinePlayer machine, Player current, GameState state, String nickname,
+                GameMode mode) {
+        this.mode = mode;
+        this.humanPlayer = human;
+        this.machinePlayer = machine;
+        this.currentPlayer = current == humanPlayer ? this.humanPlayer : this.machinePlayer;
+        this.gameState = state;
+        this.humanNickname = nickname;
+        this.startedAtMillis = System.currentTimeMillis();
+    }
+
+    /**
+     * Gets the human player instance.
+     * 
+     * @return the human player
+     */
+    public HumanPlayer getHumanPlayer() {
+        return humanPlayer;
+    }
+
+    /**
+     * Gets the machine player instance.
+     * 
+     * @return the machine player
+     */
+    public MachinePlayer getMachinePlayer() {
+        return machinePlayer;
+    }
+
+    /**
+     * Gets the currently active player.
+     * 
+     * @return the current player (either human or machine)
+     */
+    public Player getCurrentPlayer() {
+        return currentPlayer;
+    }
+
+    /**
+     * Gets the current game state.
+     * 
+     * @return the current game state
+     * @see GameState
+     */
+    public GameState getGameState() {
+        return gameState;
+    }
+
+    /**
+     * Gets the rule variant of this game.
+     *
+     * @return the game mode
+     */
+    public GameMode getMode() {
+        return mode != null ? mode : GameMode.CLASSIC;
+    }
+
+    /**
+     * Gets the human player's nickname.
+     * 
+     * @return the human player's nickname
+     */
+    public String getHumanNickname() {
+        return humanNickname;
+    }
+
+    /**
+     * Gets the record of every placement and shot of this game.
+     *
+     * <p>Games loaded from older saves start a new journal holding their
+     * current fleets; shots made before the save cannot be recovered.</p>
+     *
+     * @return the game journal
+     * @see model.replay.ReplayEngine
+     */
+    public GameJournal getJournal() {
+        if (journal == null) {
+            journal = new GameJournal();
+            journal.recordFleet(true, machinePlayer.getBoard());
+            journal.recordFleet(false, humanPlayer.getBoard());
+        }
+        return journal;
+    }
+
+    /**
+     * Gets the slot of the slot save file this game autosaves to.
+     *
+     * @return the slot index, or -1 if the game uses the single save file
+     * @see SlotSaveFile
+     */
+    public int getSaveSlot() {
+        return saveSlot != null ? saveSlot : -1;
+    }
+
+    /**
+     * Makes this game autosave into a slot of the shared slot save file.
+     *
+     * <p>The complete game is written to the slot right away; after that,
+     * each shot only updates the affected cells in place.</p>
+     *
+     * @param slot the slot index, or -1 to go back to the single save file
+     */
+    public void setSaveSlot(int slot) {
+        this.saveSlot = slot >= 0 ? slot : null;
+        saveGameState();
+    }
+
+    /**
+     * Checks whether the game saves itself after each placement and shot.
+     *
+     * @return true if autosave is on, which is the default
+     */
+    public boolean isAutosave() {
+        return !autosaveDisabled;
+    }
+
+    /**
+     * Turns automatic saving on or off. With autosave off the result of the
+     * game is not added to the match history either. Explicit saves through
+     * {@link #saveGame()} and {@link #setSaveSlot(int)} still write to disk.
+     * The setting is not saved with the game.
+     *
+     * @param autosave false to play without touching the disk after each move
+     */
+    public void setAutosave(boolean autosave) {
+        this.autosaveDisabled = !autosave;
+    }
+
+    public void setHumanNickname(String nickname) {
+        this.humanNickname = nickname;
+        this.humanPlayer = new HumanPlayer(nickname);
+    }
+
+    public List<ShipType> getShipsToPlaceForHuman() {
+        List<ShipType> placedTypes = new ArrayList<>();
+        for (Ship ship : humanPlayer.getBoard().getShips()) {
+            placedTypes.add(ship.getType());
+        }
+
+        List<ShipType> remainingToPlace = new ArrayList<>(FLEET_CONFIGURATION);
+        for (ShipType placed : placedTypes) {
+            remainingToPlace.remove(placed);
+        }
+        return remainingToPlace;
+    }
+
+    public boolean allHumanShipsPlaced() {
+        return getShipsToPlaceForHuman().isEmpty();
+    }
+
+    public void placeHumanShip(Ship ship, int row, int col, Orientation orientation) throws InvalidShipPlacementException {
+        if (gameState != GameState.SHIP_PLACEMENT) {
+            throw new IllegalStateException("No se pueden colocar barcos fuera d ela fase de colocación.");
+        }
+        humanPlayer.getBoard().placeShip(ship, row, col, orientation);
+        getJournal().recordPlacement(false, ship.getType(), row, col, orientation);
+        
+        // Guardar después de colocar cada barco
+        if (!autosaveDisabled) {
+            saveGameState();
+        }
+    }
+
+    public void startGamePlay() {
+        if (gameState == GameState.SHIP_PLACEMENT && allHumanShipsPlaced()) {
+            // Registrar los barcos colocados directamente sobre el tablero
+            getJournal().recordFleet(false, humanPlayer.getBoard());
+            gameState = GameState.PLAYER_TURN;
+            currentPlayer = humanPlayer;
+            publishGameStarted();
+        } else if (gameState != GameState.SHIP_PLACEMENT) {
+            if (currentPlayer == humanPlayer) {
+                gameState = GameState.PLAYER_TURN;
+            } else {
+                throw new IllegalStateException("No se pueden iniciar las jugadas hasta que todos los barcos estén colocados.");
+            }
+        }
+    }
+
+    public ShotResult processPlayerShot(int row, int col) throws CellAlreadyShotException {
+        if (currentPlayer != humanPlayer || gameState != GameState.PLAYER_TURN) {
+            throw new IllegalStateException("No es el turno del jugador humano o el juego no está en modo de disparo.");
+        }
+        requireMode(GameMode.CLASSIC);
+        ShotEvent event = Recording.isActive() ? new ShotEvent() : null;
+        if (event != null) {
+            event.begin();
+        }
+
+        ShotResult result = machinePlayer.getBoard().receiveShot(row, col);
+        if (result != ShotResult.INVALID_SHOT) {
+            getJournal().recordShot(true, row, col, result);
+            humanShots++;
+            publishShot(humanPlayer, machinePlayer.getBoard(), row, col, result);
+        }
+
+        if (machinePlayer.getBoard().allShipsSunk()) {
+            gameState = GameState.GAME_OVER_HUMAN_WINS;
+            recordMatchResult();
+        } else if (result == ShotResult.WATER) {
+            currentPlayer = machinePlayer;
+            gameState = GameState.MACHINE_TURN;
+        }
+        
+        // Guardar automáticamente después de cada jugada del jugador
+        saveShot(true, row, col);
+        commitShotEvent(event, humanPlayer, row, col, result);
+
+        return result;
+    }
+
+    /**
+     * Processes a human shot at a coordinate.
+     *
+     * @param target the targeted cell of the machine board
+     * @return the result of the shot
+     * @throws CellAlreadyShotException if the cell was already shot
+     */
+    public ShotResult processPlayerShot(Coordinate target) throws CellAlreadyShotException {
+        return processPlayerShot(target.getRow(), target.getCol());
+    }
+
+    public ShotResult processMachineShot() {
+        if (currentPlayer != machinePlayer || gameState != GameState.MACHINE_TURN) {
+            throw new IllegalStateException("No es el turno de la máquina o el juego no está en modo de disparo.");
+        }
+        requireMode(GameMode.CLASSIC);
+        ShotEvent event = Recording.isActive() ? new ShotEvent() : null;
+        if (event != null) {
+            event.begin();
+        }
+
+        Coordinate target = machinePlayer.getNextShot(humanPlayer.getBoard());
+        if (target == null) {
+            if (humanPlayer.getBoard().allShipsSunk()) {
+                gameState = GameState.GAME_OVER_HUMAN_WINS;
+            }
+            return ShotResult.INVALID_SHOT;
+        }
+        ShotResult result;
+        try {
+            result = humanPlayer.getBoard().receiveShot(target);
+            getJournal().recordShot(false, target.getRow(), target.getCol(), result);
+            machineShots++;
+            publishShot(machinePlayer, humanPlayer.getBoard(), target.getRow(), target.getCol(), result);
+        } catch (CellAlreadyShotException e) {
+            LOGGER.log(Level.WARNING, () -> "IA intentó disparar a celda ya disparada: " + e.getMessage());
+            currentPlayer = humanPlayer;
+            gameState = GameState.PLAYER_TURN;
+            return ShotResult.ALREADY_SHOT;
+        }
+
+        if (humanPlayer.getBoard().allShipsSunk()) {
+            gameState = GameState.GAME_OVER_MACHINE_WINS;
+            recordMatchResult();
+        } else if (result == ShotResult.WATER) {
+            currentPlayer = humanPlayer;
+            gameState = GameState.PLAYER_TURN;
+        }
+
+        // Guardar automáticamente después de cada jugada de la máquina
+        saveShot(false, target.getRow(), target.getCol());
+        commitShotEvent(event, machinePlayer, target.getRow(), target.getCol(), result);
+
+        return result;
+    }
+
+    /**
+     * Gets the number of shots the current player fires in a salvo:
+     * one per ship of that player still afloat.
+     *
+     * @return the salvo size
+     */
+    public int getSalvoSize() {
+        Board board = currentPlayer.getBoard();
+        return board.getShips().size() - board.getSunkShipsCount();
+    }
+
+    /**
+     * Fires a salvo of the human player in {@link GameMode#SALVO} games.
+     *
+     * <p>All shots are resolved together through
+     * {@link Board#receiveShots(int[], byte[])}; a cell that was already
+     * shot, or repeated in the salvo, is wasted and reported as
+     * {@link ShotResult#ALREADY_SHOT}. The turn then passes to the machine
+     * unless its fleet is sunk.</p>
+     *
+     * @param cells the target cells, as {@link Coordinate#getIndex()} values
+     * @param resultsOut receives the {@link ShotResult} ordinal of each shot
+     * @return the number of shots that hit a ship
+     * @throws IllegalStateException if it is not the human's turn or the game is not a salvo game
+     * @throws IllegalArgumentException if there are no cells or more than {@link #getSalvoSize()}
+     */
+    public int processPlayerSalvo(int[] cells, byte[] resultsOut) {
+        if (currentPlayer != humanPlayer || gameState != GameState.PLAYER_TURN) {
+            throw new IllegalStateException("No es el turno del jugador humano o el juego no está en modo de disparo.");
+        }
+        requireMode(GameMode.SALVO);
+        if (cells.length == 0 || cells.length > getSalvoSize()) {
+            throw new IllegalArgumentException("A salvo must have between 1 and " + getSalvoSize() + " shots");
+        }
+        int hits = machinePlayer.getBoard().receiveShots(cells, resultsOut);
+        finishSalvo(true, cells, resultsOut);
+        return hits;
+    }
+
+    /**
+     * Fires a salvo of the machine player in {@link GameMode#SALVO} games.
+     *
+     * <p>The machine fills {@code cells} with distinct cells not shot yet;
+     * size it with {@link #getSalvoSize()}. Entries left without a target
+     * are -1 and reported as {@link ShotResult#INVALID_SHOT}.</p>
+     *
+     * @param cells receives the target cells, as {@link Coordinate#getIndex()} values
+     * @param resultsOut receives the {@link ShotResult} ordinal of each shot
+     * @return the number of shots that hit a ship
+     * @throws IllegalStateException if it is not the machine's turn or the game is not a salvo game
+     * @throws IllegalArgumentException if cells is empty or longer than {@link #getSalvoSize()}
+     */
+    public int processMachineSalvo(int[] cells, byte[] resultsOut) {
+        if (currentPlayer != machinePlayer || gameState != GameState.MACHINE_TURN) {
+            throw new IllegalStateException("No es el turno de la máquina o el juego no está en modo de disparo.");
+        }
+        requireMode(GameMode.SALVO);
+        if (cells.length == 0 || cells.length > getSalvoSize()) {
+            throw new IllegalArgumentException("A salvo must have between 1 and " + getSalvoSize() + " shots");
+        }
+        machinePlayer.getNextShots(humanPlayer.getBoard(), cells);
+        int hits = humanPlayer.getBoard().receiveShots(cells, resultsOut);
+        finishSalvo(false, cells, resultsOut);
+        return hits;
+    }
+
+    /**
+     * Records the resolved shots of a salvo, ends the game if the target
+     * fleet is sunk and otherwise gives the turn to the opponent.
+     */
+    private void finishSalvo(boolean machineBoard, int[] cells, byte[] results) {
+        Player shooter = machineBoard ? humanPlayer : machinePlayer;
+        Player target = machineBoard ? machinePlayer : humanPlayer;
+        for (int i = 0; i < cells.length; i++) {
+            ShotResult result = SHOT_RESULTS[results[i]];
+            if (result == ShotResult.ALREADY_SHOT || result == ShotResult.INVALID_SHOT) {
+                continue;
+            }
+            Coordinate cell = Coordinate.ofIndex(cells[i]);
+            getJournal().recordShot(machineBoard, cell.getRow(), cell.getCol(), result);
+            if (machineBoard) {
+                humanShots++;
+            } else {
+                machineShots++;
+            }
+            publishShot(shooter, target.getBoard(), cell.getRow(), cell.getCol(), result);
+        }
+
+        if (target.getBoard().allShipsSunk()) {
+            gameState = machineBoard ? GameState.GAME_OVER_HUMAN_WINS : GameState.GAME_OVER_MACHINE_WINS;
+            recordMatchResult();
+        } else {
+            currentPlayer = target;
+            gameState = machineBoard ? GameState.MACHINE_TURN : GameState.PLAYER_TURN;
+        }
+
+        // Guardar una sola vez por salva; en una ranura solo se reescriben las celdas afectadas
+        if (autosaveDisabled) {
+            return;
+        }
+        if (saveSlot == null) {
+            saveGameState();
+            return;
+        }
+        for (int i = 0; i < cells.length; i++) {
+            if (results[i] != ShotResult.ALREADY_SHOT.ordinal() && results[i] != ShotResult.INVALID_SHOT.ordinal()) {
+                Coordinate cell = Coordinate.ofIndex(cells[i]);
+                saveShot(machineBoard, cell.getRow(), cell.getCol());
+            }
+        }
+    }
+
+    /**
+     * Rejects moves that belong to another rule variant.
+     */
+    private void requireMode(GameMode required) {
+        if (getMode() != required) {
+            throw new IllegalStateException("Jugada no válida en el modo de juego " + getMode() + ".");
+        }
+    }
+
+    /**
+     * Processes a human shot and captures its outcome.
+     *
+     * <p>Like every method of this class it may run on any thread, as long
+     * as all calls for one game come from the same thread; the returned
+     * outcome can then be safely handed to another thread.</p>
+     *
+     * @param row the target row
+     * @param col the target column
+     * @return the outcome of the shot, with the machine board cells it changed
+     * @throws CellAlreadyShotException if the cell was already shot
+     */
+    public ShotOutcome playPlayerShot(int row, int col) throws CellAlreadyShotException {
+        ShotOutcome.Recorder recorder = new ShotOutcome.Recorder(machinePlayer.getBoard());
+        try {
+            ShotResult result = processPlayerShot(row, col);
+            return recorder.toOutcome(result, gameState);
+        } finally {
+            recorder.close();
+        }
+    }
+
+    /**
+     * Processes a human shot at a coordinate and captures its outcome.
+     *
+     * @param target the targeted cell of the machine board
+     * @return the outcome of the shot, with the machine board cells it changed
+     * @throws CellAlreadyShotException if the cell was already shot
+     * @see #playPlayerShot(int, int)
+     */
+    public ShotOutcome playPlayerShot(Coordinate target) throws CellAlreadyShotException {
+        return playPlayerShot(target.getRow(), target.getCol());
+    }
+
+    /**
+     * Processes a machine shot and captures its outcome.
+     *
+     * @return the outcome of the shot, with the human board cells it changed
+     * @see #playPlayerShot(int, int)
+     */
+    public ShotOutcome playMachineShot() {
+        ShotOutcome.Recorder recorder = new ShotOutcome.Recorder(humanPlayer.getBoard());
+        try {
+            ShotResult result = processMachineShot();
+            return recorder.toOutcome(result, gameState);
+        } finally {
+            recorder.close();
+        }
+    }
+
+    /**
+     * Commits the Flight Recorder event of a processed shot, if there is one and it is being recorded.
+     */
+    private static void commitShotEvent(ShotEvent event, Player shooter, int row, int col, ShotResult result) {
+        if (event != null && event.shouldCommit()) {
+            event.shooter = shooter.getName();
+            event.row = row;
+            event.col = col;
+            event.result = result.name();
+            event.commit();
+        }
+    }
+
+    /**
+     * Gets the seed of the machine player's random decisions.
+     *
+     * @return the game seed, or 0 for games created before seeds were recorded
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Gets the number of shots fired by the human player.
+     *
+     * @return the human shot count
+     */
+    public int getHumanShots() {
+        return humanShots;
+    }
+
+    /**
+     * Gets the number of shots fired by the machine player.
+     *
+     * @return the machine shot count
+     */
+    public int getMachineShots() {
+        return machineShots;
+    }
+
+    public int getHumanShipsSunkByMachine() {
+        return humanPlayer.getBoard().getSunkShipsCount();
+    }
+
+    public int getMachineShipsSunkByHuman() {
+        return machinePlayer.getBoard().getSunkShipsCount();
+    }
+
+    /**
+     * Guarda el estado actual del juego automáticamente
+     */
+    private void saveGameState() {
+        try {
+            if (saveSlot != null) {
+                SlotSaveFile.getDefault().writeGame(saveSlot, this);
+            } else {
+                GameSerializer.saveGame(this);
+                ScorePersistence.saveGameInfo(this);
+            }
+        } catch (Exception e) {
+            LOGGER.log(Level.ERROR, () -> "Error en el guardado automático: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Guarda automáticamente un disparo. En una ranura solo se reescriben las celdas afectadas.
+     */
+    private void saveShot(boolean machineBoard, int row, int col) {
+        if (autosaveDisabled) {
+            return;
+        }
+        if (saveSlot == null) {
+            saveGameState();
+            return;
+        }
+        try {
+            SlotSaveFile.getDefault().recordShot(saveSlot, this, machineBoard, row, col);
+        } catch (Exception e) {
+            LOGGER.log(Level.ERROR, () -> "Error en el guardado automático: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Publica el inicio de la fase de disparos con las flotas de ambos jugadores
+     */
+    private void publishGameStarted() {
+        List<ShipType> fleet = new ArrayList<>();
+        for (Ship ship : humanPlayer.getBoard().getShips()) {
+            fleet.add(ship.getType());
+        }
+        for (Ship ship : machinePlayer.getBoard().getShips()) {
+            fleet.add(ship.getType());
+        }
+        GameEvents.gameStarted(fleet);
+    }
+
+    /**
+     * Publica un disparo resuelto (y el barco hundido, si lo hubo) para las estadísticas
+     */
+    private void publishShot(Player shooter, Board target, int row, int col, ShotResult result) {
+        long now = System.nanoTime();
+        GameEvents.shotFired(shooter.getName(), result, lastShotNanos == 0 ? 0 : now - lastShotNanos);
+        lastShotNanos = now;
+        if (result == ShotResult.SUNK) {
+            GameEvents.shipSunk(target.getShipAt(row, col).getType());
+        }
+    }
+
+    /**
+     * Agrega el resultado de la partida terminada al historial de partidas,
+     * salvo si el autoguardado está desactivado
+     */
+    private void recordMatchResult() {
+        if (matchRecorded) {
+            return;
+        }
+        matchRecorded = true;
+        boolean humanWins = gameState == GameState.GAME_OVER_HUMAN_WINS;
+        GameEvents.gameOver(humanWins ? humanPlayer.getName() : machinePlayer.getName(),
+                humanWins ? machinePlayer.getName() : humanPlayer.getName(),
+                humanWins ? humanShots : machineShots);
+        if (autosaveDisabled) {
+            // Partidas sin disco (consola, pruebas): no alteran la clasificación real
+            return;
+        }
+        try {
+            MatchHistoryStore.getDefault().append(new MatchRecord(humanNickname,
+                    gameState == GameState.GAME_OVER_HUMAN_WINS, humanShots,
+                    System.currentTimeMillis() - startedAtMillis, seed, System.currentTimeMillis()));
+        } catch (Exception e) {
+            LOGGER.log(Level.ERROR, () -> "Error guardando el historial de partidas: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Guarda el estado del juego manualmente (público)
+     */
+    public void saveGame() {
+        saveGameState();
+    }
+
+    /**
+     * Carga un juego guardado
+     */
+    public static Game loadGame() {
+        return GameSerializer.loadGame();
+    }
+
+    /**
+     * Carga un juego guardado con nombre
+     */
+    public static Game loadGame(String saveName) {
+        return GameSerializer.loadGame(saveName);
+    }
+
+    /**
+     * Lista los juegos guardados con nombre leyendo solo el índice de guardados
+     */
+    public static List<SaveMetadata> listSavedGames() {
+        return GameSerializer.listSaves();
+    }
+
+    /**
+     * Carga el juego guardado en una ranura del archivo de ranuras
+     */
+    public static Game loadGame(int slot) {
+        try {
+            Game game = SlotSaveFile.getDefault().readGame(slot);
+            if (game != null) {
+                game.saveSlot = slot;
+            }
+            return game;
+        } catch (Exception e) {
+            LOGGER.log(Level.ERROR, () -> "Error cargando la ranura " + slot + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Lista las ranuras del archivo de ranuras sin leer los tableros
+     */
+    public static List<SaveSlotInfo> listSaveSlots() {
+        try {
+            return SlotSaveFile.getDefault().listSlots();
+        } catch (Exception e) {
+            LOGGER.log(Level.ERROR, () -> "Error listando las ranuras: " + e.getMessage());
+            return new ArrayList<>();
+        }
+    }
+
+    /**
+     * Verifica si hay un juego guardado
+     */
+    public static boolean hasSavedGame() {
+        return GameSerializer.hasSavedGame();
+    }
+
+    /**
+     * Elimina el archivo de guardado (cuando se termina un juego)
+     */
+    public void deleteSaveFile() {
+        if (gameState == GameState.GAME_OVER_HUMAN_WINS || gameState == GameState.GAME_OVER_MACHINE_WINS) {
+            if (saveSlot != null) {
+                try {
+                    SlotSaveFile.getDefault().clearSlot(saveSlot);
+                } catch (Exception e) {
+                    LOGGER.log(Level.WARNING, () -> "Error liberando la ranura " + saveSlot + ": " + e.getMessage());
+                }
+            } else {
+                GameSerializer.deleteSaveFile();
+            }
+        }
+    }
+
+}
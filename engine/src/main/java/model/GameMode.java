@@ -0,0 +1,27 @@
+package model;
+
+/**
+ * Enumeration representing the rule variants a game can be played with.
+ *
+ * <p>The mode is chosen when the game is created and decides how many
+ * shots a player fires per turn and when the turn passes to the
+ * opponent.</p>
+ *
+ * @author Battle Naval Fury Team
+ * @version 1.0
+ * @since 1.0
+ * @see Game
+ */
+public enum GameMode {
+
+    /**
+     * One shot at a time; the player keeps the turn while hitting ships.
+     */
+    CLASSIC,
+
+    /**
+     * One shot per surviving ship each turn, resolved together; the turn
+     * always passes to the opponent after the salvo.
+     */
+    SALVO
+}
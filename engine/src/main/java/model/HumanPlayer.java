@@ -1,5 +1,9 @@
 package model;
 
+import model.logging.Log;
+
+import java.lang.System.Logger.Level;
+
 /**
  * Represents a human player in the naval battle game.
  * 
@@ -15,6 +19,9 @@ package model;
  * @see MachinePlayer
  */
 public class HumanPlayer extends Player {
+
+    /** Logger of this class */
+    private static final System.Logger LOGGER = Log.getLogger(HumanPlayer.class);
     
     /**
      * Serial version UID for serialization compatibility.
@@ -39,7 +46,7 @@ public class HumanPlayer extends Player {
      */
     @Override
     public void placeShips(){
-        System.out.println(name + " está colocando sus barcos.");
+        LOGGER.log(Level.DEBUG, () -> name + " está colocando sus barcos.");
     }
 
     /**
@@ -54,7 +61,7 @@ public class HumanPlayer extends Player {
      * @throws UnsupportedOperationException always, as human shots are UI-handled
      */
     @Override
-    public int[] getNextShot(Board opponentBoard){
+    public Coordinate getNextShot(Board opponentBoard){
         throw new UnsupportedOperationException("El disparo del jugador humano es manejado por la interfaz.");
     }
 }
@@ -0,0 +1,247 @@
+package model;
+
+import model.events.MachineDecisionEvent;
+import model.events.Recording;
+import model.logging.Log;
+import model.metrics.Metrics;
+import model.metrics.Timer;
+
+import java.io.Serializable;
+import java.lang.System.Logger.Level;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Represents a computer-controlled player in the naval battle game.
+ * 
+ * <p>The machine player implements AI strategies for both ship placement
+ * and shot selection. Currently uses random algorithms for both actions,
+ * providing a challenging but unpredictable opponent for human players.</p>
+ * 
+ * <p>Ship placement follows the standard fleet configuration:
+ * 1 Aircraft Carrier, 2 Submarines, 3 Destroyers, and 4 Frigates.
+ * Ships are placed randomly on valid positions with random orientations.</p>
+ * 
+ * @author Battle Naval Fury Team
+ * @version 1.0
+ * @since 1.0
+ * @see Player
+ * @see HumanPlayer
+ * @see AI
+ */
+public class MachinePlayer extends Player {
+
+    /** Logger of this class */
+    private static final System.Logger LOGGER = Log.getLogger(MachinePlayer.class);
+    
+    /**
+     * Serial version UID for serialization compatibility.
+     */
+    private static final long serialVersionUID = 1L;
+    
+    /** Name of the targeting strategy, reported in Flight Recorder events */
+    private static final String STRATEGY = "random";
+
+    /**
+     * Random number generator for AI decision making.
+     */
+    private Random randomGenerator;
+
+    /**
+     * Constructs a new machine player with the specified name.
+     * 
+     * <p>Initializes the random number generator for AI decision making.</p>
+     * 
+     * @param name the name of the machine player
+     */
+    public MachinePlayer(String name) {
+        super(name);
+        this.randomGenerator = new Random();
+    }
+
+    /**
+     * Constructs a new machine player whose decisions follow a fixed seed.
+     *
+     * <p>Two machine players built with the same seed place their ships
+     * and choose their shots identically, which makes matches reproducible.</p>
+     *
+     * @param name the name of the machine player
+     * @param seed the seed for the random number generator
+     */
+    public MachinePlayer(String name, long seed) {
+        super(name);
+        this.randomGenerator = new Random(seed);
+    }
+
+    /**
+     * Automatically places all ships on the machine player's board.
+     * 
+     * <p>Uses a random placement strategy to position the standard fleet:
+     * 1 Aircraft Carrier, 2 Submarines, 3 Destroyers, and 4 Frigates.
+     * Ships are placed in random order with random orientations on
+     * valid positions.</p>
+     * 
+     * <p>The method attempts up to 100 placements per ship to handle
+     * cases where the board becomes crowded. If a ship cannot be placed
+     * after 100 attempts, an error message is logged.</p>
+     */
+    @Override
+    public void placeShips(){
+        LOGGER.log(Level.DEBUG, () -> name + " está colocando sus barcos automáticamente.");
+        List<ShipType> shipsToPlaceConfig = new ArrayList<>();
+        // 1 portaaviones
+        shipsToPlaceConfig.add(ShipType.AIRCRAFT_CARRIER);
+        // 2 Submarinos
+        shipsToPlaceConfig.add(ShipType.SUBMARINE);
+        shipsToPlaceConfig.add(ShipType.SUBMARINE);
+        // 3 destructores
+        shipsToPlaceConfig.add(ShipType.DESTROYER);
+        shipsToPlaceConfig.add(ShipType.DESTROYER);
+        shipsToPlaceConfig.add(ShipType.DESTROYER);
+        // 4 fragatas
+        shipsToPlaceConfig.add(ShipType.FRIGATE);
+        shipsToPlaceConfig.add(ShipType.FRIGATE);
+        shipsToPlaceConfig.add(ShipType.FRIGATE);
+        shipsToPlaceConfig.add(ShipType.FRIGATE);
+
+        Collections.shuffle(shipsToPlaceConfig, randomGenerator);
+
+        for (ShipType type : shipsToPlaceConfig) {
+            Ship ship;
+
+            switch (type) {
+                case AIRCRAFT_CARRIER: ship = new AircraftCarrier(); break;
+                case SUBMARINE: ship = new Submarine(); break;
+                case DESTROYER: ship = new Destroyer(); break;
+                case FRIGATE: ship = new Frigate(); break;
+                default: continue;
+            }
+
+            boolean placed = false;
+            int attempts = 0;
+
+            while (!placed && attempts < 100) {
+                int row = randomGenerator.nextInt(Board.SIZE);
+                int col = randomGenerator.nextInt(Board.SIZE);
+                Coordinate start = Coordinate.of(row, col);
+                Orientation orientation = randomGenerator.nextBoolean() ? Orientation.HORIZONTAL : Orientation.VERTICAL;
+                Metrics.PLACEMENT_ATTEMPTS.increment();
+
+                try {
+                    if (board.canPlaceShip(ship, start, orientation)) {
+                        board.placeShip(ship, start, orientation);
+                        placed = true;
+                        LOGGER.log(Level.DEBUG, () -> "IA colocó " + type.getDisplayName() + " en " + start + " " + orientation);
+                    }
+                } catch (Exception e) {
+                    LOGGER.log(Level.DEBUG, () -> "Error colocando barco: " + e.getMessage());
+                }
+                attempts++;
+            }
+
+            if (!placed) {
+                LOGGER.log(Level.WARNING, () -> "IA no pudo colocar: " + type.getDisplayName() + ". El tablero podría estar muy lleno.");
+            }
+        }
+    }
+
+    /**
+     * Determines the next shot coordinates using random targeting.
+     * 
+     * <p>Randomly selects one of the cells of the opponent's board that
+     * have not been shot at. The board keeps those cells in an index, so
+     * the choice takes constant time and never scans the board. This
+     * provides unpredictable but fair AI behavior.</p>
+     * 
+     * @param opponentBoard the opponent's board to analyze
+     * @return the coordinate of the shot, or null if no valid targets remain
+     */
+    @Override
+    public Coordinate getNextShot(Board opponentBoard) {
+        long start = Timer.start();
+        try {
+            return chooseShot(opponentBoard);
+        } finally {
+            Metrics.MACHINE_DECISION.stop(start);
+        }
+    }
+
+    /**
+     * Chooses the targets of a salvo: distinct random cells not shot yet.
+     *
+     * <p>When fewer cells remain than the array holds, the unused
+     * entries are set to -1, which {@link Board#receiveShots(int[], byte[])}
+     * reports as invalid shots.</p>
+     *
+     * @param opponentBoard the opponent's board to analyze
+     * @param cellsOut receives the chosen cells, as {@code row * Board.SIZE + col}
+     * @return the number of cells chosen
+     */
+    public int getNextShots(Board opponentBoard, int[] cellsOut) {
+        long start = Timer.start();
+        try {
+            int available = opponentBoard.getUnshotCount();
+            int chosen = Math.min(available, cellsOut.length);
+            // Algoritmo de Floyd: posiciones distintas del índice sin copiarlo ni barajarlo
+            for (int k = 0, bound = available - chosen; k < chosen; k++, bound++) {
+                int position = randomGenerator.nextInt(bound + 1);
+                if (contains(cellsOut, k, opponentBoard.getUnshotCell(position))) {
+                    position = bound;
+                }
+                cellsOut[k] = opponentBoard.getUnshotCell(position);
+            }
+            for (int k = chosen; k < cellsOut.length; k++) {
+                cellsOut[k] = -1;
+            }
+            return chosen;
+        } finally {
+            Metrics.MACHINE_DECISION.stop(start);
+        }
+    }
+
+    /**
+     * Checks whether a cell is among the first entries of an array.
+     */
+    private static boolean contains(int[] cells, int count, int cell) {
+        for (int i = 0; i < count; i++) {
+            if (cells[i] == cell) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Picks a random cell among those not shot yet, from the board's unshot index.
+     */
+    private Coordinate chooseShot(Board opponentBoard) {
+        MachineDecisionEvent event = Recording.isActive() ? new MachineDecisionEvent() : null;
+        if (event != null) {
+            event.begin();
+        }
+        int available = opponentBoard.getUnshotCount();
+        if (available == 0) {
+            commitDecision(event, 0, -1, -1);
+            return null;
+        }
+
+        Coordinate target = Coordinate.ofIndex(opponentBoard.getUnshotCell(randomGenerator.nextInt(available)));
+        commitDecision(event, available, target.getRow(), target.getCol());
+        return target;
+    }
+
+    /**
+     * Commits the Flight Recorder event of a shot decision, if there is one and it is being recorded.
+     */
+    private static void commitDecision(MachineDecisionEvent event, int candidates, int row, int col) {
+        if (event != null && event.shouldCommit()) {
+            event.strategy = STRATEGY;
+            event.candidates = candidates;
+            event.row = row;
+            event.col = col;
+            event.commit();
+        }
+    }
+}
\ No newline at end of file
@@ -84,8 +84,7 @@ public abstract class Player implements Serializable {
      * from the UI, while AI players use algorithmic selection.</p>
      * 
      * @param opponentBoard the opponent's board to target
-     * @return array containing [row, col] coordinates for the next shot,
-     *         or null if no valid shots are available
+     * @return the coordinate of the next shot, or null if no valid shots are available
      */
-    public abstract int[] getNextShot(Board opponentBoard);
+    public abstract Coordinate getNextShot(Board opponentBoard);
 }
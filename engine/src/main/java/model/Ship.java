@@ -0,0 +1,299 @@
+package model;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Abstract base class representing a ship in the naval battle game.
+ * 
+ * <p>This class provides the common functionality for all types of ships
+ * including size management, hit tracking, sinking mechanics, and cell
+ * occupation. Specific ship types extend this class to define their
+ * characteristics.</p>
+ * 
+ * <p>Ships can be placed on the game board in different orientations
+ * (horizontal or vertical) and track their health through hit registration.
+ * Hits are kept as a bit mask with one bit per segment, so a ship is sunk
+ * when its hit mask equals its footprint mask.</p>
+ *
+ * <p>A placed ship knows only its board, first cell and orientation; the
+ * cells it covers follow from them, so it keeps no cell objects.</p>
+ * 
+ * @author Battle Naval Fury Team
+ * @version 1.0
+ * @since 1.0
+ * @see ShipType
+ * @see Cell
+ * @see Orientation
+ * @see Board
+ */
+public abstract class Ship implements Serializable {
+    /**
+     * Serial version UID for serialization compatibility. Version 2 stores
+     * the first cell instead of the occupied cells; ships saved with
+     * version 1 cannot be read.
+     */
+    private static final long serialVersionUID = 2L;
+
+    /**
+     * The type of this ship (defines size and characteristics).
+     */
+    protected ShipType type;
+    
+    /**
+     * The size of this ship (number of cells it occupies).
+     */
+    protected int size;
+    
+    /**
+     * The number of hits this ship has received.
+     */
+    protected int hits;
+    
+    /**
+     * Whether this ship has been sunk.
+     */
+    protected boolean sunk;
+
+    /**
+     * The segments hit so far: bit i is set once the i-th cell of the
+     * ship, counted from its first cell, has been hit.
+     */
+    protected int hitMask;
+
+    /**
+     * One bit per segment of the ship; the hit mask of a sunk ship.
+     */
+    protected int footprintMask;
+    
+    /**
+     * The board this ship is placed on, or null if it is not placed.
+     */
+    protected Board board;
+
+    /**
+     * Index of the first cell of this ship on its board
+     * ({@code row * Board.SIZE + col}), or -1 if it is not placed.
+     */
+    protected int startCell;
+    
+    /**
+     * The orientation of this ship (horizontal or vertical).
+     */
+    protected Orientation orientation;
+
+    /**
+     * Constructs a new ship of the specified type.
+     * 
+     * <p>Initializes the ship with default values: zero hits, not sunk,
+     * and not placed on any board. The ship size is determined by the
+     * ship type.</p>
+     * 
+     * @param type the type of ship to create
+     * @throws IllegalArgumentException if type is null
+     */
+    public Ship(ShipType type){
+        if (type == null) {
+            throw new IllegalArgumentException("Ship type cannot be null");
+        }
+        this.type = type;
+        this.size = type.getSize();
+        this.hits = 0;
+        this.sunk = false;
+        this.footprintMask = (1 << size) - 1;
+        this.startCell = -1;
+    }
+
+    /**
+     * Gets the type of this ship.
+     * 
+     * @return the ship type
+     */
+    public ShipType getType() {
+        return type;
+    }
+
+    /**
+     * Gets the size of this ship.
+     * 
+     * @return the number of cells this ship occupies
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Gets the number of hits this ship has received.
+     * 
+     * @return the hit count
+     */
+    public int getHits() {
+        return hits;
+    }
+
+    /**
+     * Gets the segments of this ship that have been hit.
+     *
+     * @return a mask with bit i set if the i-th cell, counted from the first one, was hit
+     */
+    public int getHitMask() {
+        return hitMask;
+    }
+
+    /**
+     * Checks whether one segment of this ship has been hit.
+     *
+     * @param segment the segment, counted from the first cell of the ship
+     * @return true if that segment was hit
+     */
+    public boolean isSegmentHit(int segment) {
+        return segment >= 0 && segment < size && (hitMask & (1 << segment)) != 0;
+    }
+
+    /**
+     * Gets the segment of this ship that lies on a cell.
+     *
+     * @param cell the coordinate of the cell
+     * @return the segment, counted from the first cell of the ship, or -1
+     *         if the ship doesn't occupy the cell
+     */
+    public int segmentOf(Coordinate cell) {
+        if (cell == null || startCell < 0) {
+            return -1;
+        }
+        Coordinate first = Coordinate.ofIndex(startCell);
+        int segment;
+        if (orientation == Orientation.VERTICAL) {
+            segment = cell.getCol() == first.getCol() ? cell.getRow() - first.getRow() : -1;
+        } else {
+            segment = cell.getRow() == first.getRow() ? cell.getCol() - first.getCol() : -1;
+        }
+        return segment >= 0 && segment < size ? segment : -1;
+    }
+
+    /**
+     * Gets the first cell of this ship.
+     *
+     * @return the coordinate of the first cell, or null if the ship is not placed
+     */
+    public Coordinate getStart() {
+        return startCell < 0 ? null : Coordinate.ofIndex(startCell);
+    }
+
+    /**
+     * Gets the board index of one segment of this placed ship.
+     */
+    int getCellIndex(int segment) {
+        return startCell + segment * (orientation == Orientation.VERTICAL ? Board.SIZE : 1);
+    }
+
+    /**
+     * Checks if this ship has been sunk.
+     * 
+     * @return true if the ship is sunk, false otherwise
+     */
+    public boolean isSunk() {
+        return sunk;
+    }
+
+    /**
+     * Gets the list of cells this ship occupies.
+     *
+     * <p>The cells are views created by the board on demand; engine code
+     * should prefer {@link #getStart()} and {@link #getOrientation()}.</p>
+     * 
+     * @return an unmodifiable list of the occupied cells, empty if the ship is not placed
+     */
+    public List<Cell> getOccupiedCells() {
+        if (board == null) {
+            return Collections.emptyList();
+        }
+        List<Cell> cells = new ArrayList<Cell>(size);
+        for (int i = 0; i < size; i++) {
+            cells.add(board.getCell(Coordinate.ofIndex(getCellIndex(i))));
+        }
+        return Collections.unmodifiableList(cells);
+    }
+
+    /**
+     * Gets the orientation of this ship.
+     * 
+     * @return the ship orientation (horizontal or vertical)
+     */
+    public Orientation getOrientation() {
+        return orientation;
+    }
+
+    /**
+     * Sets the orientation of this ship.
+     * 
+     * @param orientation the new orientation for the ship
+     */
+    public void setOrientation(Orientation orientation) {
+        this.orientation = orientation;
+    }
+
+    /**
+     * Records where this ship lies on a board; the board marks the cells.
+     */
+    void place(Board board, int startCell, Orientation orientation) {
+        this.board = board;
+        this.startCell = startCell;
+        this.orientation = orientation;
+    }
+
+    /**
+     * Forgets the position of this ship so it can be placed again elsewhere.
+     */
+    void remove() {
+        this.board = null;
+        this.startCell = -1;
+    }
+
+    /**
+     * Registers a hit on the segment of this ship that lies on a cell and
+     * checks if the ship becomes sunk.
+     * 
+     * <p>The hit sets the segment's bit in the hit mask; the ship is sunk
+     * when the mask equals its footprint. Hitting a segment again changes
+     * nothing.</p>
+     * 
+     * @param cell the coordinate of the hit cell
+     * @return true if the ship became sunk as a result of this hit,
+     *         false if the ship was already sunk, the segment was already
+     *         hit or the ship is still afloat
+     * @throws IllegalArgumentException if the ship doesn't occupy the cell
+     */
+    public boolean registerHit(Coordinate cell) {
+        int segment = segmentOf(cell);
+        if (segment < 0) {
+            throw new IllegalArgumentException("Cell " + cell + " is not part of this ship");
+        }
+        int bit = 1 << segment;
+        if ((hitMask & bit) != 0) {
+            return false;
+        }
+        hitMask |= bit;
+        hits = Integer.bitCount(hitMask);
+        if (hitMask == footprintMask) {
+            sunk = true;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Resets this ship to its initial state.
+     * 
+     * <p>Clears all hits and removes the sunk status, effectively
+     * restoring the ship to full health. This is typically used
+     * when starting a new game.</p>
+     */
+    public void reset(){
+        this.hits = 0;
+        this.sunk = false;
+        this.hitMask = 0;
+    }
+}
@@ -78,4 +78,21 @@ public enum ShipType {
     public String getDisplayName() {
         return DisplayName;
     }
+
+    /**
+     * Creates a new, unplaced ship instance of this type.
+     *
+     * <p>Used when a fleet has to be rebuilt from its stored types,
+     * for example when restoring a saved game.</p>
+     *
+     * @return a new ship of this type
+     */
+    public Ship createShip() {
+        switch (this) {
+            case AIRCRAFT_CARRIER: return new AircraftCarrier();
+            case SUBMARINE: return new Submarine();
+            case DESTROYER: return new Destroyer();
+            default: return new Frigate();
+        }
+    }
 }
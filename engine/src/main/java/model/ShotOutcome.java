@@ -0,0 +1,147 @@
+package model;
+
+import java.util.Arrays;
+
+/**
+ * Immutable result of one shot, ready to be handed to another thread.
+ *
+ * <p>Besides the {@link ShotResult} it holds the state of the game after
+ * the shot and every cell of the target board that changed (the shot cell,
+ * or all cells of a sunk ship), so a view can show the shot without reading
+ * the board while the engine keeps working on it.</p>
+ *
+ * @author Battle Naval Fury Team
+ * @version 1.0
+ * @since 1.0
+ * @see Game#playPlayerShot(int, int)
+ * @see Game#playMachineShot()
+ */
+public final class ShotOutcome {
+
+    /** Result of the shot */
+    private final ShotResult result;
+
+    /** State of the game after the shot */
+    private final GameState gameState;
+
+    /** Changed cells, in report order */
+    private final Coordinate[] cells;
+
+    /** New states of the changed cells */
+    private final CellState[] states;
+
+    private ShotOutcome(ShotResult result, GameState gameState, Coordinate[] cells, CellState[] states) {
+        this.result = result;
+        this.gameState = gameState;
+        this.cells = cells;
+        this.states = states;
+    }
+
+    /**
+     * Gets the result of the shot.
+     *
+     * @return the shot result
+     */
+    public ShotResult getResult() {
+        return result;
+    }
+
+    /**
+     * Gets the state of the game after the shot.
+     *
+     * @return the game state
+     */
+    public GameState getGameState() {
+        return gameState;
+    }
+
+    /**
+     * Gets the number of cells changed by the shot.
+     *
+     * @return the changed cell count
+     */
+    public int getChangedCount() {
+        return cells.length;
+    }
+
+    /**
+     * Gets a changed cell.
+     *
+     * @param index the index of the change, from 0 to {@link #getChangedCount()} - 1
+     * @return the coordinate of the cell
+     */
+    public Coordinate getChangedCell(int index) {
+        return cells[index];
+    }
+
+    /**
+     * Gets the new state of a changed cell.
+     *
+     * @param index the index of the change, from 0 to {@link #getChangedCount()} - 1
+     * @return the state of the cell after the shot
+     */
+    public CellState getChangedState(int index) {
+        return states[index];
+    }
+
+    /**
+     * Collects the cells a board reports while one shot is resolved.
+     */
+    static final class Recorder implements BoardListener {
+
+        /** Board being followed */
+        private final Board board;
+
+        /** Changed cells packed as row * SIZE + col, in report order */
+        private int[] cells = new int[4];
+
+        /** New states, parallel to cells */
+        private CellState[] states = new CellState[4];
+
+        /** Number of recorded changes */
+        private int count;
+
+        /**
+         * Starts recording the changes of a board.
+         *
+         * @param board the target board of the shot
+         */
+        Recorder(Board board) {
+            this.board = board;
+            board.addListener(this);
+        }
+
+        @Override
+        public void cellChanged(int row, int col, CellState state) {
+            if (count == cells.length) {
+                cells = Arrays.copyOf(cells, count * 2);
+                states = Arrays.copyOf(states, count * 2);
+            }
+            cells[count] = row * Board.SIZE + col;
+            states[count] = state;
+            count++;
+        }
+
+        /**
+         * Builds the outcome from the changes recorded so far.
+         *
+         * @param result the result of the shot
+         * @param gameState the state of the game after the shot
+         * @return the outcome with the recorded changes
+         */
+        ShotOutcome toOutcome(ShotResult result, GameState gameState) {
+            Coordinate[] changed = new Coordinate[count];
+            for (int i = 0; i < count; i++) {
+                changed[i] = Coordinate.ofIndex(cells[i]);
+            }
+            return new ShotOutcome(result, gameState, changed, Arrays.copyOf(states, count));
+        }
+
+        /**
+         * Stops recording.
+         */
+        void close() {
+            board.removeListener(this);
+        }
+    }
+}
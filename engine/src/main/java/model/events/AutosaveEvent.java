@@ -0,0 +1,37 @@
+package model.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event covering one write of the game state to disk.
+ *
+ * @author Battle Naval Fury Team
+ * @version 1.0
+ * @since 1.0
+ */
+@Name("battlenaval.Autosave")
+@Label("Autosave")
+@Category({"Battle Naval Fury", "Persistence"})
+@Description("Write of the game state to disk")
+@StackTrace(false)
+public class AutosaveEvent extends Event {
+
+    /** Kind of write: serialized game, information file, slot or slot shot */
+    @Label("Kind")
+    public String kind;
+
+    /** Save name, file or slot written */
+    @Label("Target")
+    public String target;
+
+    /** Number of bytes written */
+    @Label("Bytes Written")
+    @DataAmount
+    public long bytesWritten;
+}
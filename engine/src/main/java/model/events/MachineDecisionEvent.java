@@ -0,0 +1,39 @@
+package model.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event covering the machine player choosing its next shot.
+ *
+ * @author Battle Naval Fury Team
+ * @version 1.0
+ * @since 1.0
+ */
+@Name("battlenaval.MachineDecision")
+@Label("Machine Decision")
+@Category({"Battle Naval Fury", "Engine"})
+@Description("Choice of the next shot by the machine player")
+@StackTrace(false)
+public class MachineDecisionEvent extends Event {
+
+    /** Name of the targeting strategy used */
+    @Label("Strategy")
+    public String strategy;
+
+    /** Number of cells that could still be targeted */
+    @Label("Candidates")
+    public int candidates;
+
+    /** Row of the chosen cell, or -1 if no cell was left */
+    @Label("Row")
+    public int row;
+
+    /** Column of the chosen cell, or -1 if no cell was left */
+    @Label("Column")
+    public int col;
+}
@@ -0,0 +1,34 @@
+package model.events;
+
+import jdk.jfr.FlightRecorder;
+
+/**
+ * Tells whether the events of this package are worth creating.
+ *
+ * <p>Creating the first Flight Recorder event starts the recorder's own
+ * machinery, which costs hundreds of milliseconds. The engine therefore
+ * only creates events once a recording has been started, either with
+ * {@code -XX:StartFlightRecording} or later with {@code jcmd <pid> JFR.start}.</p>
+ *
+ * @author Battle Naval Fury Team
+ * @version 1.0
+ * @since 1.0
+ */
+public final class Recording {
+
+    /**
+     * Private constructor to prevent instantiation of utility class.
+     */
+    private Recording() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    /**
+     * Checks whether Flight Recorder has been started in this JVM.
+     *
+     * @return true if events should be created
+     */
+    public static boolean isActive() {
+        return FlightRecorder.isInitialized();
+    }
+}
@@ -0,0 +1,40 @@
+package model.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event covering the processing of one shot, from
+ * resolving it on the target board to the autosave that follows it.
+ *
+ * @author Battle Naval Fury Team
+ * @version 1.0
+ * @since 1.0
+ */
+@Name("battlenaval.Shot")
+@Label("Shot")
+@Category({"Battle Naval Fury", "Engine"})
+@Description("Processing of a shot fired by a player")
+@StackTrace(false)
+public class ShotEvent extends Event {
+
+    /** Name of the player who fired */
+    @Label("Shooter")
+    public String shooter;
+
+    /** Row of the target cell */
+    @Label("Row")
+    public int row;
+
+    /** Column of the target cell */
+    @Label("Column")
+    public int col;
+
+    /** Name of the {@link model.ShotResult} */
+    @Label("Result")
+    public String result;
+}
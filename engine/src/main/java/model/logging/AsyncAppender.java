@@ -0,0 +1,175 @@
+package model.logging;
+
+import java.io.PrintStream;
+import java.lang.System.Logger.Level;
+import java.text.MessageFormat;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Writes log entries to the console from a background thread.
+ *
+ * <p>Loggers hand entries over through a bounded ring buffer. Handing over
+ * never blocks: when the buffer is full the entry is dropped and counted,
+ * so a slow console can never stall the game thread. Message formatting
+ * and printing happen on the appender thread.</p>
+ *
+ * @author Battle Naval Fury Team
+ * @version 1.0
+ * @since 1.0
+ * @see Log
+ */
+final class AsyncAppender {
+
+    /** Timestamp format of every printed line */
+    private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("HH:mm:ss.SSS");
+
+    /** Maximum number of entries drained in one batch */
+    private static final int BATCH_SIZE = 256;
+
+    /** Entries waiting to be printed */
+    private final BlockingQueue<Entry> queue;
+
+    /** Number of entries dropped because the buffer was full */
+    private final AtomicLong dropped;
+
+    /** Stream for entries below {@link Level#WARNING} */
+    private final PrintStream out;
+
+    /** Stream for warnings and errors */
+    private final PrintStream err;
+
+    /**
+     * Creates an appender and starts its daemon thread.
+     *
+     * @param capacity the number of entries the buffer can hold
+     * @param out the stream for informational entries
+     * @param err the stream for warnings and errors
+     */
+    AsyncAppender(int capacity, PrintStream out, PrintStream err) {
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.dropped = new AtomicLong();
+        this.out = out;
+        this.err = err;
+
+        Thread writer = new Thread(this::run, "log-appender");
+        writer.setDaemon(true);
+        writer.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(this::flush, "log-flush"));
+    }
+
+    /**
+     * Queues an entry without blocking.
+     *
+     * @param entry the entry to print
+     */
+    void append(Entry entry) {
+        if (!queue.offer(entry)) {
+            dropped.incrementAndGet();
+        }
+    }
+
+    /**
+     * Gets the number of entries dropped because the buffer was full.
+     *
+     * @return the dropped entry count
+     */
+    long getDroppedCount() {
+        return dropped.get();
+    }
+
+    /**
+     * Prints every queued entry on the calling thread.
+     */
+    synchronized void flush() {
+        List<Entry> batch = new ArrayList<>(BATCH_SIZE);
+        while (queue.drainTo(batch, BATCH_SIZE) > 0) {
+            write(batch);
+            batch.clear();
+        }
+        out.flush();
+        err.flush();
+    }
+
+    /**
+     * Main loop of the appender thread.
+     */
+    private void run() {
+        List<Entry> batch = new ArrayList<>(BATCH_SIZE);
+        while (true) {
+            try {
+                Entry first = queue.poll(1, TimeUnit.SECONDS);
+                if (first == null) {
+                    continue;
+                }
+                synchronized (this) {
+                    batch.add(first);
+                    queue.drainTo(batch, BATCH_SIZE - 1);
+                    write(batch);
+                    batch.clear();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                batch.clear();
+                err.println("Error escribiendo el registro: " + e);
+            }
+        }
+    }
+
+    /**
+     * Formats and prints a batch of entries, reporting any drops first.
+     */
+    private void write(List<Entry> batch) {
+        long lost = dropped.getAndSet(0);
+        if (lost > 0) {
+            err.println(LocalTime.now().format(TIME_FORMAT) + " WARNING [log] " + lost + " mensajes descartados");
+        }
+        for (Entry entry : batch) {
+            PrintStream stream = entry.level.getSeverity() >= Level.WARNING.getSeverity() ? err : out;
+            stream.println(entry.time.format(TIME_FORMAT) + " " + entry.level.getName()
+                    + " [" + entry.logger + "] " + entry.formatMessage());
+            if (entry.thrown != null) {
+                entry.thrown.printStackTrace(stream);
+            }
+        }
+    }
+
+    /**
+     * A log entry waiting to be printed.
+     */
+    static final class Entry {
+        final LocalTime time;
+        final Level level;
+        final String logger;
+        final String message;
+        final Object[] params;
+        final Throwable thrown;
+
+        Entry(Level level, String logger, String message, Object[] params, Throwable thrown) {
+            this.time = LocalTime.now();
+            this.level = level;
+            this.logger = logger;
+            this.message = message;
+            this.params = params;
+            this.thrown = thrown;
+        }
+
+        /**
+         * Applies the {@link MessageFormat} parameters, if any.
+         */
+        String formatMessage() {
+            if (params == null || params.length == 0 || message == null) {
+                return message;
+            }
+            return MessageFormat.format(message, params);
+        }
+    }
+}
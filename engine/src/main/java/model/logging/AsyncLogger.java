@@ -0,0 +1,70 @@
+package model.logging;
+
+import java.util.ResourceBundle;
+
+/**
+ * {@link System.Logger} that checks the level inline and hands enabled
+ * messages over to the {@link AsyncAppender}.
+ *
+ * <p>Messages given as a supplier are only built when the level is
+ * enabled, and {@link java.text.MessageFormat} parameters are only
+ * applied on the appender thread.</p>
+ *
+ * @author Battle Naval Fury Team
+ * @version 1.0
+ * @since 1.0
+ * @see Log
+ */
+final class AsyncLogger implements System.Logger {
+
+    /** Name printed with every entry */
+    private final String name;
+
+    /** Appender receiving the entries */
+    private final AsyncAppender appender;
+
+    /**
+     * Creates a logger.
+     *
+     * @param name the logger name
+     * @param appender the appender receiving the entries
+     */
+    AsyncLogger(String name, AsyncAppender appender) {
+        this.name = name;
+        this.appender = appender;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public boolean isLoggable(Level level) {
+        return level != Level.OFF && level.getSeverity() >= Log.getLevel().getSeverity();
+    }
+
+    @Override
+    public void log(Level level, ResourceBundle bundle, String msg, Throwable thrown) {
+        if (isLoggable(level)) {
+            appender.append(new AsyncAppender.Entry(level, name, localize(bundle, msg), null, thrown));
+        }
+    }
+
+    @Override
+    public void log(Level level, ResourceBundle bundle, String format, Object... params) {
+        if (isLoggable(level)) {
+            appender.append(new AsyncAppender.Entry(level, name, localize(bundle, format), params, null));
+        }
+    }
+
+    /**
+     * Looks a message key up in a resource bundle, if one is given.
+     */
+    private static String localize(ResourceBundle bundle, String key) {
+        if (bundle != null && key != null && bundle.containsKey(key)) {
+            return bundle.getString(key);
+        }
+        return key;
+    }
+}
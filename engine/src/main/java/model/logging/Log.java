@@ -0,0 +1,115 @@
+package model.logging;
+
+import java.lang.System.Logger;
+import java.lang.System.Logger.Level;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Entry point of the game's logging.
+ *
+ * <p>Loggers are plain {@link System.Logger}s, so call sites use the
+ * standard API and pass a supplier when the message is costly to build:</p>
+ * <pre>
+ *     private static final System.Logger LOGGER = Log.getLogger(Game.class);
+ *     LOGGER.log(Level.DEBUG, () -&gt; "Disparo en (" + row + "," + col + ")");
+ * </pre>
+ *
+ * <p>Disabled levels cost one comparison. Enabled entries are queued in a
+ * bounded buffer and printed by a daemon thread, so logging never blocks
+ * the game. The threshold is read from the system property
+ * {@value #LEVEL_PROPERTY} ({@code INFO} by default) and can be changed
+ * at runtime with {@link #setLevel(Level)}.</p>
+ *
+ * @author Battle Naval Fury Team
+ * @version 1.0
+ * @since 1.0
+ */
+public final class Log {
+
+    /** System property holding the minimum level printed */
+    public static final String LEVEL_PROPERTY = "battlenaval.log.level";
+
+    /** System property holding the capacity of the log buffer */
+    public static final String BUFFER_PROPERTY = "battlenaval.log.buffer";
+
+    /** Appender shared by every logger */
+    private static final AsyncAppender APPENDER =
+            new AsyncAppender(Integer.getInteger(BUFFER_PROPERTY, 8192), System.out, System.err);
+
+    /** Loggers created so far, by name */
+    private static final Map<String, Logger> LOGGERS = new ConcurrentHashMap<>();
+
+    /** Minimum level printed */
+    private static volatile Level level = parseLevel(System.getProperty(LEVEL_PROPERTY));
+
+    /**
+     * Private constructor to prevent instantiation of utility class.
+     */
+    private Log() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    /**
+     * Gets the logger of a class, named after its simple name.
+     *
+     * @param type the class that logs
+     * @return the logger
+     */
+    public static Logger getLogger(Class<?> type) {
+        return LOGGERS.computeIfAbsent(type.getSimpleName(), name -> new AsyncLogger(name, APPENDER));
+    }
+
+    /**
+     * Gets the minimum level printed.
+     *
+     * @return the current level
+     */
+    public static Level getLevel() {
+        return level;
+    }
+
+    /**
+     * Sets the minimum level printed.
+     *
+     * @param newLevel the new level
+     * @throws IllegalArgumentException if newLevel is null
+     */
+    public static void setLevel(Level newLevel) {
+        if (newLevel == null) {
+            throw new IllegalArgumentException("Level cannot be null");
+        }
+        level = newLevel;
+    }
+
+    /**
+     * Prints every queued entry before returning.
+     */
+    public static void flush() {
+        APPENDER.flush();
+    }
+
+    /**
+     * Gets the number of entries dropped since the last printed batch
+     * because the buffer was full.
+     *
+     * @return the dropped entry count
+     */
+    public static long getDroppedCount() {
+        return APPENDER.getDroppedCount();
+    }
+
+    /**
+     * Parses a level name, falling back to {@link Level#INFO}.
+     */
+    private static Level parseLevel(String name) {
+        if (name != null) {
+            try {
+                return Level.valueOf(name.trim().toUpperCase());
+            } catch (IllegalArgumentException e) {
+                System.err.println("Nivel de registro desconocido: " + name);
+            }
+        }
+        return Level.INFO;
+    }
+}
@@ -0,0 +1,60 @@
+package model.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Monotonic event counter exposed through JMX.
+ *
+ * @author Battle Naval Fury Team
+ * @version 1.0
+ * @since 1.0
+ * @see Metrics
+ */
+public class Counter implements CounterMBean {
+
+    /** Metric name, also used as JMX and Prometheus name */
+    private final String name;
+
+    /** Description shown in the Prometheus dump */
+    private final String help;
+
+    /** Current count */
+    private final LongAdder count;
+
+    /**
+     * Creates a counter.
+     *
+     * @param name the metric name
+     * @param help a short description of the metric
+     */
+    Counter(String name, String help) {
+        this.name = name;
+        this.help = help;
+        this.count = new LongAdder();
+    }
+
+    /**
+     * Adds one to the counter.
+     */
+    public void increment() {
+        count.increment();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getHelp() {
+        return help;
+    }
+
+    @Override
+    public long getCount() {
+        return count.sum();
+    }
+
+    @Override
+    public void reset() {
+        count.reset();
+    }
+}
@@ -0,0 +1,18 @@
+package model.metrics;
+
+/**
+ * JMX view of a {@link Counter}.
+ *
+ * @author Battle Naval Fury Team
+ * @version 1.0
+ * @since 1.0
+ * @see Metrics
+ */
+public interface CounterMBean {
+
+    /** Gets the current count. */
+    long getCount();
+
+    /** Resets the count to zero. */
+    void reset();
+}
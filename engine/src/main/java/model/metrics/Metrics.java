@@ -0,0 +1,218 @@
+package model.metrics;
+
+import model.logging.Log;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.System.Logger.Level;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * Runtime metrics of the game engine, persistence and user interface.
+ *
+ * <p>Every metric is registered as a JMX MBean under the
+ * {@code battlenaval} domain when this class is loaded, so it can be
+ * inspected live with JConsole or VisualVM. Starting the platform MBean
+ * server takes a few hundred milliseconds; short-lived tools can skip it
+ * by setting {@value #JMX_PROPERTY} to {@code false}.</p>
+ * <ul>
+ *   <li>{@code battlenaval:type=Timer,name=...} for latency histograms</li>
+ *   <li>{@code battlenaval:type=Counter,name=...} for counters</li>
+ * </ul>
+ *
+ * <p>The same metrics can be written in Prometheus text format with
+ * {@link #writePrometheus(Path)}. When the system property
+ * {@value #EXPORT_FILE_PROPERTY} is set, the dump is refreshed
+ * periodically (every {@value #EXPORT_INTERVAL_PROPERTY} seconds,
+ * 10 by default) by a daemon thread.</p>
+ *
+ * @author Battle Naval Fury Team
+ * @version 1.0
+ * @since 1.0
+ * @see Timer
+ * @see Counter
+ */
+public final class Metrics {
+
+    /** Logger of this class */
+    private static final System.Logger LOGGER = Log.getLogger(Metrics.class);
+
+    /** System property that turns JMX registration off when set to false */
+    public static final String JMX_PROPERTY = "battlenaval.metrics.jmx";
+
+    /** System property naming the Prometheus dump file */
+    public static final String EXPORT_FILE_PROPERTY = "battlenaval.metrics.file";
+
+    /** System property with the dump period in seconds */
+    public static final String EXPORT_INTERVAL_PROPERTY = "battlenaval.metrics.interval";
+
+    /** JMX domain of every metric */
+    private static final String DOMAIN = "battlenaval";
+
+    /** Time spent resolving a shot in {@code Board.receiveShot} */
+    public static final Timer RECEIVE_SHOT = new Timer("board_receive_shot", "Time to resolve a shot on a board");
+
+    /** Time spent resolving a batch of shots in {@code Board.receiveShots} */
+    public static final Timer RECEIVE_SALVO = new Timer("board_receive_salvo", "Time to resolve a salvo of shots on a board");
+
+    /** Time spent by the machine player choosing a shot */
+    public static final Timer MACHINE_DECISION = new Timer("machine_decision", "Time for the machine player to choose a shot");
+
+    /** Time spent serializing the game to disk */
+    public static final Timer AUTOSAVE_GAME = new Timer("autosave_game", "Time to save the serialized game");
+
+    /** Time spent writing the game information file */
+    public static final Timer AUTOSAVE_INFO = new Timer("autosave_info", "Time to write the game information file");
+
+    /** Time spent refreshing board views */
+    public static final Timer UI_REFRESH = new Timer("ui_refresh", "Time to refresh a board view");
+
+    /** Time from JVM start to the first frame of the main menu */
+    public static final Timer FIRST_FRAME = new Timer("startup_first_frame", "Time from JVM start to the first frame");
+
+    /** Ship placement attempts, successful or not */
+    public static final Counter PLACEMENT_ATTEMPTS = new Counter("placement_attempts", "Ship placement attempts");
+
+    /** Every timer, in export order */
+    private static final List<Timer> TIMERS = List.of(RECEIVE_SHOT, RECEIVE_SALVO, MACHINE_DECISION, AUTOSAVE_GAME, AUTOSAVE_INFO,
+            UI_REFRESH, FIRST_FRAME);
+
+    /** Every counter, in export order */
+    private static final List<Counter> COUNTERS = List.of(PLACEMENT_ATTEMPTS);
+
+    static {
+        if (!"false".equalsIgnoreCase(System.getProperty(JMX_PROPERTY))) {
+            registerMBeans();
+        }
+        startPeriodicExport();
+    }
+
+    /**
+     * Private constructor to prevent instantiation of utility class.
+     */
+    private Metrics() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    /**
+     * Gets every timer.
+     *
+     * @return the registered timers
+     */
+    public static List<Timer> getTimers() {
+        return TIMERS;
+    }
+
+    /**
+     * Gets every counter.
+     *
+     * @return the registered counters
+     */
+    public static List<Counter> getCounters() {
+        return COUNTERS;
+    }
+
+    /**
+     * Writes every metric in Prometheus text exposition format.
+     *
+     * <p>Timers are written as summaries in seconds with the 0.5, 0.9 and
+     * 0.99 quantiles. The file is replaced atomically, so a scraper never
+     * reads a partial dump.</p>
+     *
+     * @param file the destination file
+     * @throws IOException if the file cannot be written
+     */
+    public static void writePrometheus(Path file) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null && !Files.exists(parent)) {
+            Files.createDirectories(parent);
+        }
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (Writer out = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+            for (Timer timer : TIMERS) {
+                String name = DOMAIN + "_" + timer.getName() + "_seconds";
+                out.write("# HELP " + name + " " + timer.getHelp() + "\n");
+                out.write("# TYPE " + name + " summary\n");
+                for (double quantile : new double[]{0.5, 0.9, 0.99}) {
+                    out.write(name + "{quantile=\"" + quantile + "\"} "
+                            + seconds(timer.getDurations().getValueAtPercentile(quantile * 100)) + "\n");
+                }
+                out.write(name + "_sum " + seconds(timer.getDurations().getSum()) + "\n");
+                out.write(name + "_count " + timer.getCount() + "\n");
+            }
+            for (Counter counter : COUNTERS) {
+                String name = DOMAIN + "_" + counter.getName() + "_total";
+                out.write("# HELP " + name + " " + counter.getHelp() + "\n");
+                out.write("# TYPE " + name + " counter\n");
+                out.write(name + " " + counter.getCount() + "\n");
+            }
+        }
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Formats a duration in nanoseconds as seconds.
+     */
+    private static String seconds(long nanos) {
+        return String.format(Locale.ROOT, "%.9f", nanos / 1_000_000_000.0);
+    }
+
+    /**
+     * Registers every metric in the platform MBean server.
+     */
+    private static void registerMBeans() {
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            for (Timer timer : TIMERS) {
+                ObjectName name = new ObjectName(DOMAIN + ":type=Timer,name=" + timer.getName());
+                if (!server.isRegistered(name)) {
+                    server.registerMBean(timer, name);
+                }
+            }
+            for (Counter counter : COUNTERS) {
+                ObjectName name = new ObjectName(DOMAIN + ":type=Counter,name=" + counter.getName());
+                if (!server.isRegistered(name)) {
+                    server.registerMBean(counter, name);
+                }
+            }
+        } catch (Exception | LinkageError e) {
+            LOGGER.log(Level.WARNING, () -> "No se pudieron registrar las métricas JMX: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Starts the periodic Prometheus dump if it was requested.
+     */
+    private static void startPeriodicExport() {
+        String file = System.getProperty(EXPORT_FILE_PROPERTY);
+        if (file == null || file.isBlank()) {
+            return;
+        }
+        long interval = Long.getLong(EXPORT_INTERVAL_PROPERTY, 10L);
+        Path path = Paths.get(file);
+        ScheduledExecutorService exporter = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "metrics-exporter");
+            thread.setDaemon(true);
+            return thread;
+        });
+        exporter.scheduleAtFixedRate(() -> {
+            try {
+                writePrometheus(path);
+            } catch (IOException e) {
+                LOGGER.log(Level.WARNING, () -> "Error escribiendo las métricas: " + e.getMessage());
+            }
+        }, interval, interval, TimeUnit.SECONDS);
+    }
+}
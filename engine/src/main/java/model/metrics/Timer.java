@@ -0,0 +1,123 @@
+package model.metrics;
+
+import model.stats.Histogram;
+
+/**
+ * Latency histogram for a timed operation, exposed through JMX.
+ *
+ * <p>Durations are recorded in nanoseconds into a fixed-size
+ * {@link Histogram}, so timing an operation costs two
+ * {@link System#nanoTime()} calls and a few atomic increments.</p>
+ *
+ * <p>Typical use:</p>
+ * <pre>
+ * long start = Timer.start();
+ * try {
+ *     ...
+ * } finally {
+ *     Metrics.AUTOSAVE_GAME.stop(start);
+ * }
+ * </pre>
+ *
+ * @author Battle Naval Fury Team
+ * @version 1.0
+ * @since 1.0
+ * @see Metrics
+ */
+public class Timer implements TimerMBean {
+
+    /** Metric name, also used as JMX and Prometheus name */
+    private final String name;
+
+    /** Description shown in the Prometheus dump */
+    private final String help;
+
+    /** Recorded durations in nanoseconds */
+    private final Histogram durations;
+
+    /**
+     * Creates a timer.
+     *
+     * @param name the metric name
+     * @param help a short description of the metric
+     */
+    Timer(String name, String help) {
+        this.name = name;
+        this.help = help;
+        this.durations = new Histogram();
+    }
+
+    /**
+     * Takes the start time of an operation.
+     *
+     * @return the current {@link System#nanoTime()}
+     */
+    public static long start() {
+        return System.nanoTime();
+    }
+
+    /**
+     * Records the duration of an operation started with {@link #start()}.
+     *
+     * @param startNanos the value returned by {@link #start()}
+     */
+    public void stop(long startNanos) {
+        durations.record(System.nanoTime() - startNanos);
+    }
+
+    /**
+     * Records a duration measured by the caller.
+     *
+     * @param nanos the duration in nanoseconds
+     */
+    public void record(long nanos) {
+        durations.record(nanos);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getHelp() {
+        return help;
+    }
+
+    /**
+     * Gets the underlying histogram of durations in nanoseconds.
+     *
+     * @return the duration histogram
+     */
+    public Histogram getDurations() {
+        return durations;
+    }
+
+    @Override
+    public long getCount() {
+        return durations.getCount();
+    }
+
+    @Override
+    public double getMeanMicros() {
+        return durations.getMean() / 1_000.0;
+    }
+
+    @Override
+    public double getP50Micros() {
+        return durations.getValueAtPercentile(50) / 1_000.0;
+    }
+
+    @Override
+    public double getP99Micros() {
+        return durations.getValueAtPercentile(99) / 1_000.0;
+    }
+
+    @Override
+    public double getMaxMicros() {
+        return durations.getMax() / 1_000.0;
+    }
+
+    @Override
+    public void reset() {
+        durations.reset();
+    }
+}
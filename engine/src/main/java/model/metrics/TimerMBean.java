@@ -0,0 +1,30 @@
+package model.metrics;
+
+/**
+ * JMX view of a {@link Timer}.
+ *
+ * @author Battle Naval Fury Team
+ * @version 1.0
+ * @since 1.0
+ * @see Metrics
+ */
+public interface TimerMBean {
+
+    /** Gets the number of timed operations. */
+    long getCount();
+
+    /** Gets the mean duration in microseconds. */
+    double getMeanMicros();
+
+    /** Gets the median duration in microseconds. */
+    double getP50Micros();
+
+    /** Gets the 99th percentile duration in microseconds. */
+    double getP99Micros();
+
+    /** Gets the longest duration in microseconds. */
+    double getMaxMicros();
+
+    /** Clears the recorded durations. */
+    void reset();
+}
@@ -0,0 +1,303 @@
+package model.persistence;
+
+import model.Game;
+import model.events.AutosaveEvent;
+import model.events.Recording;
+import model.logging.Log;
+import model.metrics.Metrics;
+import model.metrics.Timer;
+import java.io.*;
+import java.lang.System.Logger.Level;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Handles serialization and deserialization of Game objects for persistence.
+ *
+ * <p>This class provides static methods to save and load game states to/from
+ * binary files using Java serialization. It automatically manages the save
+ * directory structure and handles file operations.</p>
+ *
+ * <p>Games are saved by name in a "game_saves" directory as
+ * "&lt;name&gt;.ser"; the current game uses the name "current_game". Each
+ * file starts with a fixed {@link SaveMetadata} header followed by the
+ * serialized game, and the same header is recorded in the "saves.idx"
+ * index, so saves can be listed without deserializing any game. Files
+ * written before the header existed are still loaded.</p>
+ *
+ * @author Battle Naval Fury Team
+ * @version 1.0
+ * @since 1.0
+ * @see SaveIndex
+ */
+public class GameSerializer {
+
+    /** Logger of this class */
+    private static final System.Logger LOGGER = Log.getLogger(GameSerializer.class);
+
+    /** Directory name where save files are stored */
+    private static final String SAVE_DIRECTORY = "game_saves";
+
+    /** Name of the save used for the current game */
+    public static final String DEFAULT_SAVE = "current_game";
+
+    /** Extension of the serialized game files */
+    private static final String GAME_EXTENSION = ".ser";
+
+    /** Filename for the save index */
+    private static final String INDEX_FILE = "saves.idx";
+
+    /** Index of every named save */
+    private static final SaveIndex INDEX = new SaveIndex(Paths.get(SAVE_DIRECTORY, INDEX_FILE));
+
+    /**
+     * Saves the current game state to a serialized file.
+     *
+     * <p>This method serializes the entire Game object to a binary file,
+     * preserving all game state including board configurations, player
+     * information, and current game progress.</p>
+     *
+     * <p>The save directory is created automatically if it doesn't exist.
+     * Any existing save file is overwritten.</p>
+     *
+     * @param game the Game object to be saved
+     * @throws IllegalArgumentException if game is null
+     * @see #loadGame()
+     * @see #hasSavedGame()
+     */
+    public static void saveGame(Game game) {
+        saveGame(DEFAULT_SAVE, game);
+    }
+
+    /**
+     * Saves a game under the given name and updates the save index.
+     *
+     * @param saveName the name of the save (letters, digits, '-' and '_')
+     * @param game the Game object to be saved
+     * @throws IllegalArgumentException if game is null or the name is invalid
+     * @see #loadGame(String)
+     * @see #listSaves()
+     */
+    public static void saveGame(String saveName, Game game) {
+        if (game == null) {
+            throw new IllegalArgumentException("Game cannot be null");
+        }
+        Path gamePath = gamePath(saveName);
+        long start = Timer.start();
+        AutosaveEvent event = Recording.isActive() ? new AutosaveEvent() : null;
+        if (event != null) {
+            event.begin();
+        }
+
+        try {
+            // Crear directorio si no existe
+            Path saveDir = Paths.get(SAVE_DIRECTORY);
+            if (!Files.exists(saveDir)) {
+                Files.createDirectories(saveDir);
+            }
+
+            // Serializar el objeto Game
+            ByteArrayOutputStream payload = new ByteArrayOutputStream();
+            try (ObjectOutputStream objectOut = new ObjectOutputStream(payload)) {
+                objectOut.writeObject(game);
+            }
+
+            SaveMetadata metadata = SaveMetadata.of(saveName, game, payload.size());
+            ByteBuffer header = ByteBuffer.allocate(SaveMetadata.SIZE);
+            metadata.writeTo(header);
+
+            try (OutputStream fileOut = Files.newOutputStream(gamePath)) {
+                fileOut.write(header.array());
+                payload.writeTo(fileOut);
+            }
+            INDEX.put(metadata);
+            if (event != null && event.shouldCommit()) {
+                event.kind = "serialized";
+                event.target = saveName;
+                event.bytesWritten = SaveMetadata.SIZE + payload.size();
+                event.commit();
+            }
+            LOGGER.log(Level.DEBUG, () -> "Juego guardado exitosamente en: " + gamePath);
+        } catch (IOException e) {
+            LOGGER.log(Level.ERROR, () -> "Error guardando el juego: " + e.getMessage(), e);
+        } finally {
+            Metrics.AUTOSAVE_GAME.stop(start);
+        }
+    }
+
+    /**
+     * Loads a previously saved game from the serialized file.
+     *
+     * <p>This method deserializes a Game object from the save file,
+     * restoring the complete game state including all board configurations,
+     * player data, and game progress.</p>
+     *
+     * @return the loaded Game object, or null if no save file exists or
+     *         if loading fails
+     * @see #saveGame(Game)
+     * @see #hasSavedGame()
+     */
+    public static Game loadGame() {
+        return loadGame(DEFAULT_SAVE);
+    }
+
+    /**
+     * Loads the game saved under the given name.
+     *
+     * <p>Games saved before boards switched to flat cell arrays use
+     * incompatible classes; they are reported and not loaded.</p>
+     *
+     * @param saveName the name of the save
+     * @return the loaded Game object, or null if the save doesn't exist or
+     *         if loading fails
+     * @see #saveGame(String, Game)
+     */
+    public static Game loadGame(String saveName) {
+        return loadGame(gamePath(saveName));
+    }
+
+    /**
+     * Loads a game from a save file.
+     *
+     * <p>The metadata header is skipped if the file has one; files written
+     * before the header existed start directly with the serialized game.</p>
+     *
+     * @param gamePath the location of the save file
+     * @return the loaded Game object, or null if the file doesn't exist or
+     *         if loading fails
+     */
+    public static Game loadGame(Path gamePath) {
+        if (!Files.exists(gamePath)) {
+            LOGGER.log(Level.INFO, "No se encontró archivo de guardado previo.");
+            return null;
+        }
+
+        try (InputStream fileIn = new BufferedInputStream(Files.newInputStream(gamePath))) {
+            // Saltar la cabecera de metadatos si existe (los archivos antiguos no la tienen)
+            fileIn.mark(SaveMetadata.SIZE);
+            byte[] header = fileIn.readNBytes(SaveMetadata.SIZE);
+            if (header.length < SaveMetadata.SIZE || SaveMetadata.readFrom(ByteBuffer.wrap(header)) == null) {
+                fileIn.reset();
+            }
+
+            try (ObjectInputStream objectIn = new ObjectInputStream(fileIn)) {
+                Game game = (Game) objectIn.readObject();
+                LOGGER.log(Level.INFO, () -> "Juego cargado exitosamente desde: " + gamePath);
+                return game;
+            }
+        } catch (InvalidClassException e) {
+            // Partidas guardadas antes del tablero compacto: sus clases ya no son compatibles
+            LOGGER.log(Level.WARNING, () -> "La partida guardada en " + gamePath
+                    + " usa un formato anterior y no se puede cargar.");
+            return null;
+        } catch (IOException | ClassNotFoundException e) {
+            LOGGER.log(Level.ERROR, () -> "Error cargando el juego: " + e.getMessage(), e);
+            return null;
+        }
+    }
+
+    /**
+     * Reads only the metadata header of a save.
+     *
+     * @param saveName the name of the save
+     * @return the metadata of the save, or null if the save doesn't exist
+     *         or has no header
+     */
+    public static SaveMetadata readMetadata(String saveName) {
+        Path gamePath = gamePath(saveName);
+        if (!Files.exists(gamePath)) {
+            return null;
+        }
+        try (InputStream fileIn = Files.newInputStream(gamePath)) {
+            byte[] header = fileIn.readNBytes(SaveMetadata.SIZE);
+            return header.length < SaveMetadata.SIZE ? null : SaveMetadata.readFrom(ByteBuffer.wrap(header));
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, () -> "Error leyendo la cabecera del guardado: " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Lists every named save using only the save index.
+     *
+     * @return the metadata of every indexed save
+     */
+    public static List<SaveMetadata> listSaves() {
+        try {
+            return INDEX.list();
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, () -> "Error leyendo el índice de guardados: " + e.getMessage());
+            return new ArrayList<>();
+        }
+    }
+
+    /**
+     * Checks if a saved game file exists.
+     *
+     * <p>The save index is consulted first; a save file without an index
+     * entry (written by an older version) is still reported.</p>
+     *
+     * @return true if a save file exists, false otherwise
+     * @see #saveGame(Game)
+     * @see #loadGame()
+     */
+    public static boolean hasSavedGame() {
+        try {
+            if (INDEX.get(DEFAULT_SAVE) != null) {
+                return true;
+            }
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, () -> "Error leyendo el índice de guardados: " + e.getMessage());
+        }
+        return Files.exists(gamePath(DEFAULT_SAVE));
+    }
+
+    /**
+     * Deletes the current save file if it exists.
+     *
+     * <p>This method is typically called when a game ends to clean up
+     * save files and prevent loading of completed games.</p>
+     *
+     * @see #saveGame(Game)
+     */
+    public static void deleteSaveFile() {
+        deleteSave(DEFAULT_SAVE);
+    }
+
+    /**
+     * Deletes a named save and its index entry.
+     *
+     * @param saveName the name of the save
+     */
+    public static void deleteSave(String saveName) {
+        File gameFile = gamePath(saveName).toFile();
+        try {
+            INDEX.remove(saveName);
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, () -> "Error actualizando el índice de guardados: " + e.getMessage());
+        }
+        if (gameFile.exists()) {
+            if (gameFile.delete()) {
+                LOGGER.log(Level.INFO, "Archivo de guardado eliminado.");
+            } else {
+                LOGGER.log(Level.WARNING, "No se pudo eliminar el archivo de guardado.");
+            }
+        }
+    }
+
+    /**
+     * Resolves the file of a named save.
+     *
+     * @throws IllegalArgumentException if the name is empty or has invalid characters
+     */
+    private static Path gamePath(String saveName) {
+        if (saveName == null || !saveName.matches("[A-Za-z0-9_-]{1,64}")) {
+            throw new IllegalArgumentException("Invalid save name: " + saveName);
+        }
+        return Paths.get(SAVE_DIRECTORY, saveName + GAME_EXTENSION);
+    }
+}
@@ -0,0 +1,345 @@
+package model.persistence;
+
+import model.logging.Log;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.lang.System.Logger.Level;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Persistent match history with a per-player index and leaderboards.
+ *
+ * <p>Finished matches are appended to "match_history.dat" as fixed-width
+ * {@link MatchRecord} blocks and are never rewritten. Each record also
+ * stores the offset of the previous record of the same player, so the
+ * history of one player can be walked without scanning the whole file.</p>
+ *
+ * <p>"match_history.idx" is a compacted secondary index with exactly one
+ * fixed-size entry per player, holding the player's {@link PlayerStats}
+ * aggregates and the offset of their latest record. Appending a match
+ * updates that single entry in place, and leaderboard queries are answered
+ * from the aggregates kept in memory. If the index is missing or behind the
+ * history file, it is rebuilt from the history on open.</p>
+ *
+ * @author Battle Naval Fury Team
+ * @version 1.0
+ * @since 1.0
+ * @see MatchRecord
+ * @see PlayerStats
+ */
+public class MatchHistoryStore {
+
+    /** Logger of this class */
+    private static final System.Logger LOGGER = Log.getLogger(MatchHistoryStore.class);
+
+    /** Directory name where save files are stored */
+    private static final String SAVE_DIRECTORY = "game_saves";
+
+    /** Filename for the match history */
+    private static final String HISTORY_FILE = "match_history.dat";
+
+    /** Filename for the player index */
+    private static final String INDEX_FILE = "match_history.idx";
+
+    /** Magic number identifying the player index ("BNFI") */
+    private static final int INDEX_MAGIC = 0x424E4649;
+
+    /** Version of the index layout */
+    private static final int INDEX_VERSION = 1;
+
+    /** Size of the index header: magic, version and covered history length */
+    private static final int INDEX_HEADER_SIZE = 16;
+
+    /** Size of one player entry in the index */
+    private static final int ENTRY_SIZE = 128;
+
+    /** Shared store in the default save directory */
+    private static MatchHistoryStore defaultStore;
+
+    /** Location of the history file */
+    private final Path historyPath;
+
+    /** Location of the index file */
+    private final Path indexPath;
+
+    /** Aggregates per player */
+    private final Map<String, PlayerStats> players;
+
+    /** Position of each player's entry in the index */
+    private final Map<String, Integer> entryPositions;
+
+    /** Length of the history file in bytes */
+    private long historyLength;
+
+    /**
+     * Creates a store over the given files.
+     */
+    private MatchHistoryStore(Path historyPath, Path indexPath) {
+        this.historyPath = historyPath;
+        this.indexPath = indexPath;
+        this.players = new HashMap<>();
+        this.entryPositions = new HashMap<>();
+    }
+
+    /**
+     * Opens the match history stored in a directory.
+     *
+     * @param directory the directory holding the history and index files
+     * @return the opened store
+     * @throws IOException if the files cannot be read
+     */
+    public static MatchHistoryStore open(Path directory) throws IOException {
+        if (!Files.exists(directory)) {
+            Files.createDirectories(directory);
+        }
+        MatchHistoryStore store = new MatchHistoryStore(directory.resolve(HISTORY_FILE), directory.resolve(INDEX_FILE));
+        store.load();
+        return store;
+    }
+
+    /**
+     * Gets the shared store in the "game_saves" directory.
+     *
+     * @return the default store
+     * @throws IOException if the files cannot be read
+     */
+    public static synchronized MatchHistoryStore getDefault() throws IOException {
+        if (defaultStore == null) {
+            defaultStore = open(Paths.get(SAVE_DIRECTORY));
+        }
+        return defaultStore;
+    }
+
+    /**
+     * Appends a finished match and updates the player's aggregates.
+     *
+     * @param record the finished match
+     * @throws IOException if the history or the index cannot be written
+     * @throws IllegalArgumentException if record is null
+     */
+    public synchronized void append(MatchRecord record) throws IOException {
+        if (record == null) {
+            throw new IllegalArgumentException("Record cannot be null");
+        }
+        PlayerStats stats = players.computeIfAbsent(record.getPlayer(), PlayerStats::new);
+
+        ByteBuffer buffer = ByteBuffer.allocate(MatchRecord.SIZE);
+        record.writeTo(buffer, stats.getLastRecordOffset());
+        buffer.flip();
+        long offset = historyLength;
+        try (FileChannel history = FileChannel.open(historyPath, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            while (buffer.hasRemaining()) {
+                history.write(buffer);
+            }
+        }
+        historyLength += MatchRecord.SIZE;
+        stats.add(record, offset);
+
+        try (RandomAccessFile index = new RandomAccessFile(indexPath.toFile(), "rw")) {
+            writeEntry(index, stats);
+            writeIndexHeader(index);
+        }
+    }
+
+    /**
+     * Gets the most recent matches of a player, newest first.
+     *
+     * <p>Only the player's own records are read, by following the links
+     * stored in each record.</p>
+     *
+     * @param player the name of the player
+     * @param limit maximum number of matches to return
+     * @return the player's matches, newest first
+     * @throws IOException if the history cannot be read
+     */
+    public synchronized List<MatchRecord> history(String player, int limit) throws IOException {
+        List<MatchRecord> records = new ArrayList<>();
+        PlayerStats stats = players.get(MatchRecord.trimName(player));
+        if (stats == null) {
+            return records;
+        }
+        try (FileChannel history = FileChannel.open(historyPath, StandardOpenOption.READ)) {
+            ByteBuffer buffer = ByteBuffer.allocate(MatchRecord.SIZE);
+            long offset = stats.getLastRecordOffset();
+            while (offset >= 0 && records.size() < limit) {
+                buffer.clear();
+                while (buffer.hasRemaining()) {
+                    if (history.read(buffer, offset + buffer.position()) < 0) {
+                        throw new IOException("Historial de partidas truncado en " + offset);
+                    }
+                }
+                buffer.flip();
+                long previous = MatchRecord.readPreviousOffset(buffer);
+                records.add(MatchRecord.readFrom(buffer));
+                offset = previous;
+            }
+        }
+        return records;
+    }
+
+    /**
+     * Gets the aggregates of a player.
+     *
+     * @param player the name of the player
+     * @return a copy of the player's statistics, or null if the player has no matches
+     */
+    public synchronized PlayerStats getStats(String player) {
+        PlayerStats stats = players.get(MatchRecord.trimName(player));
+        return stats != null ? stats.copy() : null;
+    }
+
+    /**
+     * Gets the players with the best win rate.
+     *
+     * <p>Ties are broken by the number of wins.</p>
+     *
+     * @param n maximum number of players to return
+     * @return the leaderboard, best first
+     */
+    public synchronized List<PlayerStats> topByWinRate(int n) {
+        return top(n, Comparator.comparingDouble(PlayerStats::getWinRate)
+                .thenComparingInt(PlayerStats::getWins).reversed(), false);
+    }
+
+    /**
+     * Gets the players who need the fewest shots to win.
+     *
+     * <p>Players without any win are left out.</p>
+     *
+     * @param n maximum number of players to return
+     * @return the leaderboard, best first
+     */
+    public synchronized List<PlayerStats> topByAverageShots(int n) {
+        return top(n, Comparator.comparingDouble(PlayerStats::getAverageShotsToWin), true);
+    }
+
+    /**
+     * Sorts the in-memory aggregates and copies the first n entries.
+     */
+    private List<PlayerStats> top(int n, Comparator<PlayerStats> order, boolean winnersOnly) {
+        List<PlayerStats> candidates = new ArrayList<>();
+        for (PlayerStats stats : players.values()) {
+            if (!winnersOnly || stats.getWins() > 0) {
+                candidates.add(stats);
+            }
+        }
+        candidates.sort(order);
+        List<PlayerStats> top = new ArrayList<>();
+        for (int i = 0; i < Math.min(n, candidates.size()); i++) {
+            top.add(candidates.get(i).copy());
+        }
+        return top;
+    }
+
+    /**
+     * Loads the index, rebuilding it from the history if it is stale.
+     */
+    private void load() throws IOException {
+        historyLength = Files.exists(historyPath) ? Files.size(historyPath) : 0;
+        if (historyLength % MatchRecord.SIZE != 0) {
+            // Descartar un registro incompleto (escritura interrumpida)
+            historyLength -= historyLength % MatchRecord.SIZE;
+            try (FileChannel history = FileChannel.open(historyPath, StandardOpenOption.WRITE)) {
+                history.truncate(historyLength);
+            }
+        }
+
+        if (Files.exists(indexPath) && readIndex()) {
+            return;
+        }
+
+        players.clear();
+        entryPositions.clear();
+        if (historyLength > 0) {
+            LOGGER.log(Level.INFO, "Reconstruyendo el índice del historial de partidas...");
+            try (FileChannel history = FileChannel.open(historyPath, StandardOpenOption.READ)) {
+                ByteBuffer buffer = history.map(FileChannel.MapMode.READ_ONLY, 0, historyLength);
+                for (long offset = 0; offset < historyLength; offset += MatchRecord.SIZE) {
+                    MatchRecord record = MatchRecord.readFrom(buffer);
+                    players.computeIfAbsent(record.getPlayer(), PlayerStats::new).add(record, offset);
+                }
+            }
+        }
+        Files.deleteIfExists(indexPath);
+        try (RandomAccessFile index = new RandomAccessFile(indexPath.toFile(), "rw")) {
+            for (PlayerStats stats : players.values()) {
+                writeEntry(index, stats);
+            }
+            writeIndexHeader(index);
+        }
+    }
+
+    /**
+     * Reads the index file.
+     *
+     * @return false if the index is invalid or doesn't cover the whole history
+     */
+    private boolean readIndex() throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(indexPath));
+        if (buffer.remaining() < INDEX_HEADER_SIZE || buffer.getInt(0) != INDEX_MAGIC
+                || buffer.getInt(4) != INDEX_VERSION || buffer.getLong(8) != historyLength) {
+            return false;
+        }
+        int entries = (buffer.remaining() - INDEX_HEADER_SIZE) / ENTRY_SIZE;
+        for (int position = 0; position < entries; position++) {
+            int base = INDEX_HEADER_SIZE + position * ENTRY_SIZE;
+            byte[] name = new byte[buffer.get(base)];
+            buffer.get(base + 8, name);
+            PlayerStats stats = new PlayerStats(new String(name, StandardCharsets.UTF_8));
+            stats.restore(buffer.getInt(base + 72), buffer.getInt(base + 76), buffer.getLong(base + 80),
+                    buffer.getLong(base + 88), buffer.getLong(base + 96), buffer.getLong(base + 104));
+            players.put(stats.getPlayer(), stats);
+            entryPositions.put(stats.getPlayer(), position);
+        }
+        return true;
+    }
+
+    /**
+     * Writes (or appends) the index entry of a player.
+     */
+    private void writeEntry(RandomAccessFile index, PlayerStats stats) throws IOException {
+        Integer position = entryPositions.get(stats.getPlayer());
+        if (position == null) {
+            position = entryPositions.size();
+            entryPositions.put(stats.getPlayer(), position);
+        }
+        byte[] name = stats.getPlayer().getBytes(StandardCharsets.UTF_8);
+        ByteBuffer entry = ByteBuffer.allocate(ENTRY_SIZE);
+        entry.put(0, (byte) name.length);
+        entry.put(8, name);
+        entry.putInt(72, stats.getGames());
+        entry.putInt(76, stats.getWins());
+        entry.putLong(80, stats.getTotalShots());
+        entry.putLong(88, stats.getWinningShots());
+        entry.putLong(96, stats.getTotalDurationMillis());
+        entry.putLong(104, stats.getLastRecordOffset());
+
+        index.seek(INDEX_HEADER_SIZE + (long) position * ENTRY_SIZE);
+        index.write(entry.array());
+    }
+
+    /**
+     * Writes the index header, marking the history length it covers.
+     */
+    private void writeIndexHeader(RandomAccessFile index) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(INDEX_HEADER_SIZE);
+        header.putInt(0, INDEX_MAGIC);
+        header.putInt(4, INDEX_VERSION);
+        header.putLong(8, historyLength);
+        index.seek(0);
+        index.write(header.array());
+    }
+}
@@ -0,0 +1,159 @@
+package model.persistence;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * One finished match in the match history.
+ *
+ * <p>Records are stored as fixed-width {@value #SIZE}-byte blocks so the
+ * history file can be appended to and addressed by offset:</p>
+ * <ul>
+ *   <li>0: finish timestamp in epoch milliseconds</li>
+ *   <li>8: random seed of the match</li>
+ *   <li>16: duration in milliseconds</li>
+ *   <li>24: shots fired by the player</li>
+ *   <li>28: result (1 win, 0 loss), 29: player name length</li>
+ *   <li>32: player name (UTF-8)</li>
+ *   <li>96: offset of the previous record of the same player, or -1</li>
+ * </ul>
+ *
+ * @author Battle Naval Fury Team
+ * @version 1.0
+ * @since 1.0
+ * @see MatchHistoryStore
+ */
+public class MatchRecord {
+
+    /** Size of an encoded record in bytes */
+    public static final int SIZE = 128;
+
+    /** Maximum number of bytes for the player name (UTF-8) */
+    static final int NAME_BYTES = 64;
+
+    /** Name of the player */
+    private final String player;
+
+    /** Whether the player won the match */
+    private final boolean won;
+
+    /** Shots fired by the player */
+    private final int shots;
+
+    /** Duration of the match in milliseconds */
+    private final long durationMillis;
+
+    /** Random seed of the match */
+    private final long seed;
+
+    /** Time the match finished, in epoch milliseconds */
+    private final long finishedAtMillis;
+
+    /**
+     * Creates a new match record.
+     *
+     * @param player the name of the player
+     * @param won whether the player won
+     * @param shots shots fired by the player
+     * @param durationMillis duration of the match in milliseconds
+     * @param seed random seed of the match
+     * @param finishedAtMillis time the match finished in epoch milliseconds
+     * @throws IllegalArgumentException if player is null or empty
+     */
+    public MatchRecord(String player, boolean won, int shots, long durationMillis, long seed, long finishedAtMillis) {
+        if (player == null || player.trim().isEmpty()) {
+            throw new IllegalArgumentException("Player name cannot be null or empty");
+        }
+        this.player = trimName(player);
+        this.won = won;
+        this.shots = shots;
+        this.durationMillis = durationMillis;
+        this.seed = seed;
+        this.finishedAtMillis = finishedAtMillis;
+    }
+
+    public String getPlayer() {
+        return player;
+    }
+
+    public boolean isWon() {
+        return won;
+    }
+
+    public int getShots() {
+        return shots;
+    }
+
+    public long getDurationMillis() {
+        return durationMillis;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public long getFinishedAtMillis() {
+        return finishedAtMillis;
+    }
+
+    /**
+     * Writes this record at the buffer's position.
+     *
+     * @param buffer the destination buffer, with at least {@value #SIZE} bytes remaining
+     * @param previousOffset offset of the previous record of the same player, or -1
+     */
+    void writeTo(ByteBuffer buffer, long previousOffset) {
+        int base = buffer.position();
+        byte[] name = player.getBytes(StandardCharsets.UTF_8);
+        buffer.putLong(base, finishedAtMillis);
+        buffer.putLong(base + 8, seed);
+        buffer.putLong(base + 16, durationMillis);
+        buffer.putInt(base + 24, shots);
+        buffer.put(base + 28, (byte) (won ? 1 : 0));
+        buffer.put(base + 29, (byte) name.length);
+        buffer.put(base + 32, name);
+        buffer.putLong(base + 96, previousOffset);
+        buffer.position(base + SIZE);
+    }
+
+    /**
+     * Reads a record at the buffer's position.
+     *
+     * @param buffer the source buffer, with at least {@value #SIZE} bytes remaining
+     * @return the decoded record
+     */
+    static MatchRecord readFrom(ByteBuffer buffer) {
+        int base = buffer.position();
+        byte[] name = new byte[buffer.get(base + 29)];
+        buffer.get(base + 32, name);
+        buffer.position(base + SIZE);
+        return new MatchRecord(new String(name, StandardCharsets.UTF_8), buffer.get(base + 28) == 1,
+                buffer.getInt(base + 24), buffer.getLong(base + 16), buffer.getLong(base + 8), buffer.getLong(base));
+    }
+
+    /**
+     * Reads the offset of the previous record of the same player.
+     *
+     * @param buffer a buffer positioned at the start of a record
+     * @return the previous offset, or -1
+     */
+    static long readPreviousOffset(ByteBuffer buffer) {
+        return buffer.getLong(buffer.position() + 96);
+    }
+
+    /**
+     * Trims a name so its UTF-8 encoding fits the name field.
+     */
+    static String trimName(String name) {
+        String value = name;
+        while (value.getBytes(StandardCharsets.UTF_8).length > NAME_BYTES) {
+            value = value.substring(0, value.length() - 1);
+        }
+        return value;
+    }
+
+    @Override
+    public String toString() {
+        return player + (won ? " ganó" : " perdió") + " en " + shots + " disparos (" + durationMillis / 1000 + " s)";
+    }
+}
@@ -0,0 +1,135 @@
+package model.persistence;
+
+/**
+ * Aggregated results of one player in the match history.
+ *
+ * <p>Aggregates are updated each time a match is appended, so leaderboard
+ * queries never need to read the history itself.</p>
+ *
+ * @author Battle Naval Fury Team
+ * @version 1.0
+ * @since 1.0
+ * @see MatchHistoryStore
+ */
+public class PlayerStats {
+
+    /** Name of the player */
+    private final String player;
+
+    /** Number of matches played */
+    private int games;
+
+    /** Number of matches won */
+    private int wins;
+
+    /** Shots fired over all matches */
+    private long totalShots;
+
+    /** Shots fired over won matches */
+    private long winningShots;
+
+    /** Time played over all matches, in milliseconds */
+    private long totalDurationMillis;
+
+    /** Offset of the player's most recent record in the history file, or -1 */
+    private long lastRecordOffset;
+
+    /**
+     * Creates empty statistics for a player.
+     *
+     * @param player the name of the player
+     */
+    PlayerStats(String player) {
+        this.player = player;
+        this.lastRecordOffset = -1;
+    }
+
+    /**
+     * Adds a match to the aggregates.
+     *
+     * @param record the finished match
+     * @param offset offset of the record in the history file
+     */
+    void add(MatchRecord record, long offset) {
+        games++;
+        totalShots += record.getShots();
+        totalDurationMillis += record.getDurationMillis();
+        if (record.isWon()) {
+            wins++;
+            winningShots += record.getShots();
+        }
+        lastRecordOffset = offset;
+    }
+
+    /**
+     * Restores aggregates read from the index file.
+     */
+    void restore(int games, int wins, long totalShots, long winningShots, long totalDurationMillis, long lastRecordOffset) {
+        this.games = games;
+        this.wins = wins;
+        this.totalShots = totalShots;
+        this.winningShots = winningShots;
+        this.totalDurationMillis = totalDurationMillis;
+        this.lastRecordOffset = lastRecordOffset;
+    }
+
+    /**
+     * Creates an independent copy, safe to hand out to callers.
+     */
+    PlayerStats copy() {
+        PlayerStats copy = new PlayerStats(player);
+        copy.restore(games, wins, totalShots, winningShots, totalDurationMillis, lastRecordOffset);
+        return copy;
+    }
+
+    public String getPlayer() {
+        return player;
+    }
+
+    public int getGames() {
+        return games;
+    }
+
+    public int getWins() {
+        return wins;
+    }
+
+    public long getTotalShots() {
+        return totalShots;
+    }
+
+    public long getWinningShots() {
+        return winningShots;
+    }
+
+    public long getTotalDurationMillis() {
+        return totalDurationMillis;
+    }
+
+    long getLastRecordOffset() {
+        return lastRecordOffset;
+    }
+
+    /**
+     * Gets the fraction of matches won.
+     *
+     * @return the win rate between 0 and 1, or 0 if no match was played
+     */
+    public double getWinRate() {
+        return games == 0 ? 0 : (double) wins / games;
+    }
+
+    /**
+     * Gets the average number of shots needed to win a match.
+     *
+     * @return the average shots per win, or {@link Double#POSITIVE_INFINITY} if the player never won
+     */
+    public double getAverageShotsToWin() {
+        return wins == 0 ? Double.POSITIVE_INFINITY : (double) winningShots / wins;
+    }
+
+    @Override
+    public String toString() {
+        return player + ": " + wins + "/" + games + " victorias";
+    }
+}
@@ -0,0 +1,176 @@
+package model.persistence;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Index file listing the metadata of every named save.
+ *
+ * <p>The index is a plain sequence of {@link SaveMetadata} blocks, one per
+ * save. Listing saves reads this single small file in one go instead of
+ * opening and deserializing every save file. Updating a save rewrites its
+ * record in place; new saves are appended.</p>
+ *
+ * <p>The file is read once, on first use, and kept in memory afterwards,
+ * so an autosave writes a single {@value SaveMetadata#SIZE}-byte record
+ * without reading the index back. The file is expected to be changed only
+ * through this object.</p>
+ *
+ * @author Battle Naval Fury Team
+ * @version 1.0
+ * @since 1.0
+ * @see SaveMetadata
+ * @see GameSerializer
+ */
+public class SaveIndex {
+
+    /** Location of the index file */
+    private final Path path;
+
+    /**
+     * Records of the file in order, null for blocks that are not valid
+     * metadata; null until the file is first read
+     */
+    private List<SaveMetadata> records;
+
+    /** Record position of each save */
+    private final Map<String, Integer> positions;
+
+    /**
+     * Creates an index backed by the given file.
+     *
+     * <p>The file is created on the first update.</p>
+     *
+     * @param path the location of the index file
+     */
+    public SaveIndex(Path path) {
+        this.path = path;
+        this.positions = new HashMap<>();
+    }
+
+    /**
+     * Lists the metadata of every indexed save.
+     *
+     * @return the indexed saves, in index order
+     * @throws IOException if the index cannot be read
+     */
+    public synchronized List<SaveMetadata> list() throws IOException {
+        List<SaveMetadata> saves = new ArrayList<>();
+        for (SaveMetadata metadata : records()) {
+            if (metadata != null) {
+                saves.add(metadata);
+            }
+        }
+        return saves;
+    }
+
+    /**
+     * Gets the metadata of a single save.
+     *
+     * @param saveName the name of the save
+     * @return the metadata, or null if the save is not indexed
+     * @throws IOException if the index cannot be read
+     */
+    public synchronized SaveMetadata get(String saveName) throws IOException {
+        Integer position = positionOf(saveName);
+        return position != null ? records.get(position) : null;
+    }
+
+    /**
+     * Adds a save to the index or replaces its existing record.
+     *
+     * <p>Only the record of the save is written.</p>
+     *
+     * @param metadata the metadata of the save
+     * @throws IOException if the index cannot be written
+     */
+    public synchronized void put(SaveMetadata metadata) throws IOException {
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null && !Files.exists(parent)) {
+            Files.createDirectories(parent);
+        }
+
+        Integer position = positionOf(metadata.getSaveName());
+        int target = position != null ? position : records.size();
+        ByteBuffer record = ByteBuffer.allocate(SaveMetadata.SIZE);
+        metadata.writeTo(record);
+
+        try (RandomAccessFile file = new RandomAccessFile(path.toFile(), "rw")) {
+            file.seek((long) target * SaveMetadata.SIZE);
+            file.write(record.array());
+        }
+        if (position != null) {
+            records.set(target, metadata);
+        } else {
+            records.add(metadata);
+            positions.put(metadata.getSaveName(), target);
+        }
+    }
+
+    /**
+     * Removes a save from the index, compacting the remaining records.
+     *
+     * @param saveName the name of the save
+     * @throws IOException if the index cannot be rewritten
+     */
+    public synchronized void remove(String saveName) throws IOException {
+        List<SaveMetadata> saves = list();
+        if (!saves.removeIf(metadata -> metadata.getSaveName().equals(saveName))) {
+            return;
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(saves.size() * SaveMetadata.SIZE);
+        for (SaveMetadata metadata : saves) {
+            metadata.writeTo(buffer);
+        }
+        Files.write(path, buffer.array());
+        load(saves);
+    }
+
+    /**
+     * Finds the record position of a save, reading the file on first use.
+     *
+     * @return the record index, or null if the save is not indexed
+     */
+    private Integer positionOf(String saveName) throws IOException {
+        records();
+        return positions.get(saveName);
+    }
+
+    /**
+     * Gets the records, reading the file on first use.
+     */
+    private List<SaveMetadata> records() throws IOException {
+        if (records == null) {
+            List<SaveMetadata> read = new ArrayList<>();
+            if (Files.exists(path)) {
+                ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(path));
+                while (buffer.remaining() >= SaveMetadata.SIZE) {
+                    read.add(SaveMetadata.readFrom(buffer));
+                }
+            }
+            load(read);
+        }
+        return records;
+    }
+
+    /**
+     * Replaces the records kept in memory.
+     */
+    private void load(List<SaveMetadata> read) {
+        records = read;
+        positions.clear();
+        for (int position = 0; position < read.size(); position++) {
+            SaveMetadata metadata = read.get(position);
+            if (metadata != null) {
+                positions.putIfAbsent(metadata.getSaveName(), position);
+            }
+        }
+    }
+}
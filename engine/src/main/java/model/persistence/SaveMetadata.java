@@ -0,0 +1,231 @@
+package model.persistence;
+
+import model.Game;
+import model.GameState;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Fixed-size description of a saved game.
+ *
+ * <p>The same {@value #SIZE}-byte block is written at the start of every
+ * save file, in front of the serialized game, and as a record of the save
+ * index. Reading it is enough to show a save in a "continue game" list:
+ * the serialized {@link Game} is only deserialized once a save is picked.</p>
+ *
+ * <p>Block layout (big-endian):</p>
+ * <ul>
+ *   <li>0: magic number, 4: format version</li>
+ *   <li>8: save timestamp in epoch milliseconds</li>
+ *   <li>16: size of the serialized game in bytes</li>
+ *   <li>24: game state ordinal, 25: turn (0 human, 1 machine)</li>
+ *   <li>26: human ships sunk by the machine, 27: machine ships sunk by the human</li>
+ *   <li>28: save name length, 29: nickname length</li>
+ *   <li>32: save name (UTF-8), 96: nickname (UTF-8)</li>
+ * </ul>
+ *
+ * @author Battle Naval Fury Team
+ * @version 1.0
+ * @since 1.0
+ * @see SaveIndex
+ * @see GameSerializer
+ */
+public class SaveMetadata {
+
+    /** Size of an encoded metadata block in bytes */
+    public static final int SIZE = 192;
+
+    /** Magic number identifying metadata blocks ("BNFH") */
+    static final int MAGIC = 0x424E4648;
+
+    /** Version of the block layout */
+    private static final int FORMAT_VERSION = 1;
+
+    /** Maximum number of bytes for the save name and nickname (UTF-8) */
+    private static final int TEXT_BYTES = 64;
+
+    /** Offset of the save name inside the block */
+    private static final int NAME_OFFSET = 32;
+
+    /** Offset of the nickname inside the block */
+    private static final int NICKNAME_OFFSET = NAME_OFFSET + TEXT_BYTES;
+
+    /** Name of the save */
+    private final String saveName;
+
+    /** Nickname of the human player */
+    private final String nickname;
+
+    /** State of the saved game */
+    private final GameState gameState;
+
+    /** Whether it was the machine's turn when the game was saved */
+    private final boolean machineTurn;
+
+    /** Human ships sunk by the machine */
+    private final int humanShipsSunk;
+
+    /** Machine ships sunk by the human */
+    private final int machineShipsSunk;
+
+    /** Time of the save in epoch milliseconds */
+    private final long savedAtMillis;
+
+    /** Size of the serialized game in bytes */
+    private final long size;
+
+    /**
+     * Creates a new metadata description.
+     *
+     * @param saveName the name of the save
+     * @param nickname the human player's nickname
+     * @param gameState the state of the saved game
+     * @param machineTurn whether it was the machine's turn
+     * @param humanShipsSunk human ships sunk by the machine
+     * @param machineShipsSunk machine ships sunk by the human
+     * @param savedAtMillis the time of the save in epoch milliseconds
+     * @param size the size of the serialized game in bytes
+     */
+    public SaveMetadata(String saveName, String nickname, GameState gameState, boolean machineTurn,
+                        int humanShipsSunk, int machineShipsSunk, long savedAtMillis, long size) {
+        this.saveName = saveName;
+        this.nickname = nickname;
+        this.gameState = gameState;
+        this.machineTurn = machineTurn;
+        this.humanShipsSunk = humanShipsSunk;
+        this.machineShipsSunk = machineShipsSunk;
+        this.savedAtMillis = savedAtMillis;
+        this.size = size;
+    }
+
+    /**
+     * Describes the current state of a game about to be saved.
+     *
+     * @param saveName the name of the save
+     * @param game the game being saved
+     * @param size the size of the serialized game in bytes
+     * @return the metadata for the save
+     */
+    public static SaveMetadata of(String saveName, Game game, long size) {
+        return new SaveMetadata(saveName, game.getHumanNickname(), game.getGameState(),
+                game.getCurrentPlayer() == game.getMachinePlayer(),
+                game.getHumanShipsSunkByMachine(), game.getMachineShipsSunkByHuman(),
+                System.currentTimeMillis(), size);
+    }
+
+    public String getSaveName() {
+        return saveName;
+    }
+
+    public String getNickname() {
+        return nickname;
+    }
+
+    public GameState getGameState() {
+        return gameState;
+    }
+
+    public boolean isMachineTurn() {
+        return machineTurn;
+    }
+
+    public int getHumanShipsSunk() {
+        return humanShipsSunk;
+    }
+
+    public int getMachineShipsSunk() {
+        return machineShipsSunk;
+    }
+
+    public long getSavedAtMillis() {
+        return savedAtMillis;
+    }
+
+    public long getSize() {
+        return size;
+    }
+
+    /**
+     * Checks if the saved game has already finished.
+     *
+     * @return true if the game ended with a winner
+     */
+    public boolean isGameOver() {
+        return gameState == GameState.GAME_OVER_HUMAN_WINS || gameState == GameState.GAME_OVER_MACHINE_WINS;
+    }
+
+    /**
+     * Writes this metadata as a {@value #SIZE}-byte block at the buffer's position.
+     *
+     * @param buffer the destination buffer, with at least {@value #SIZE} bytes remaining
+     */
+    public void writeTo(ByteBuffer buffer) {
+        int base = buffer.position();
+        byte[] name = encode(saveName);
+        byte[] nick = encode(nickname);
+
+        buffer.putInt(base, MAGIC);
+        buffer.putInt(base + 4, FORMAT_VERSION);
+        buffer.putLong(base + 8, savedAtMillis);
+        buffer.putLong(base + 16, size);
+        buffer.put(base + 24, (byte) gameState.ordinal());
+        buffer.put(base + 25, (byte) (machineTurn ? 1 : 0));
+        buffer.put(base + 26, (byte) humanShipsSunk);
+        buffer.put(base + 27, (byte) machineShipsSunk);
+        buffer.put(base + 28, (byte) name.length);
+        buffer.put(base + 29, (byte) nick.length);
+        buffer.put(base + NAME_OFFSET, name);
+        buffer.put(base + NICKNAME_OFFSET, nick);
+        buffer.position(base + SIZE);
+    }
+
+    /**
+     * Reads a metadata block at the buffer's position.
+     *
+     * <p>The buffer position is advanced by {@value #SIZE} bytes whether or
+     * not the block is valid.</p>
+     *
+     * @param buffer the source buffer, with at least {@value #SIZE} bytes remaining
+     * @return the decoded metadata, or null if the block is not a valid metadata block
+     */
+    public static SaveMetadata readFrom(ByteBuffer buffer) {
+        int base = buffer.position();
+        buffer.position(base + SIZE);
+        if (buffer.getInt(base) != MAGIC || buffer.getInt(base + 4) != FORMAT_VERSION) {
+            return null;
+        }
+        int state = buffer.get(base + 24);
+        if (state < 0 || state >= GameState.values().length) {
+            return null;
+        }
+        byte[] name = new byte[buffer.get(base + 28)];
+        byte[] nick = new byte[buffer.get(base + 29)];
+        buffer.get(base + NAME_OFFSET, name);
+        buffer.get(base + NICKNAME_OFFSET, nick);
+
+        return new SaveMetadata(new String(name, StandardCharsets.UTF_8), new String(nick, StandardCharsets.UTF_8),
+                GameState.values()[state], buffer.get(base + 25) == 1,
+                buffer.get(base + 26), buffer.get(base + 27),
+                buffer.getLong(base + 8), buffer.getLong(base + 16));
+    }
+
+    /**
+     * Encodes a text as UTF-8, trimmed to fit its field.
+     */
+    private static byte[] encode(String text) {
+        String value = text == null ? "" : text;
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        while (bytes.length > TEXT_BYTES) {
+            value = value.substring(0, value.length() - 1);
+            bytes = value.getBytes(StandardCharsets.UTF_8);
+        }
+        return bytes;
+    }
+
+    @Override
+    public String toString() {
+        return saveName + ": " + nickname + " (" + gameState + ", hundidos " + machineShipsSunk
+                + "/" + humanShipsSunk + ")";
+    }
+}
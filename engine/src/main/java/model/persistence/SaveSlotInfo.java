@@ -0,0 +1,77 @@
+package model.persistence;
+
+import model.GameState;
+
+/**
+ * Summary of a single slot in a {@link SlotSaveFile}.
+ *
+ * <p>Instances are built from the fixed-size slot header only, so listing
+ * every slot of a save file never touches the board data of the games.</p>
+ *
+ * @author Battle Naval Fury Team
+ * @version 1.0
+ * @since 1.0
+ * @see SlotSaveFile#listSlots()
+ */
+public class SaveSlotInfo {
+
+    /** Index of the slot inside the save file */
+    private final int slot;
+
+    /** Whether the slot currently holds a game */
+    private final boolean used;
+
+    /** Nickname of the human player stored in the slot */
+    private final String nickname;
+
+    /** Game state stored in the slot */
+    private final GameState gameState;
+
+    /** Time of the last write to the slot, in epoch milliseconds */
+    private final long lastSavedMillis;
+
+    /**
+     * Creates a new slot summary.
+     *
+     * @param slot the slot index
+     * @param used whether the slot holds a game
+     * @param nickname the stored nickname, or null for empty slots
+     * @param gameState the stored game state, or null for empty slots
+     * @param lastSavedMillis the time of the last write in epoch milliseconds
+     */
+    public SaveSlotInfo(int slot, boolean used, String nickname, GameState gameState, long lastSavedMillis) {
+        this.slot = slot;
+        this.used = used;
+        this.nickname = nickname;
+        this.gameState = gameState;
+        this.lastSavedMillis = lastSavedMillis;
+    }
+
+    public int getSlot() {
+        return slot;
+    }
+
+    public boolean isUsed() {
+        return used;
+    }
+
+    public String getNickname() {
+        return nickname;
+    }
+
+    public GameState getGameState() {
+        return gameState;
+    }
+
+    public long getLastSavedMillis() {
+        return lastSavedMillis;
+    }
+
+    @Override
+    public String toString() {
+        if (!used) {
+            return "Ranura " + slot + ": vacía";
+        }
+        return "Ranura " + slot + ": " + nickname + " (" + gameState + ")";
+    }
+}
@@ -1,7 +1,13 @@
 package model.persistence;
 
 import model.Game;
+import model.events.AutosaveEvent;
+import model.events.Recording;
+import model.logging.Log;
+import model.metrics.Metrics;
+import model.metrics.Timer;
 import java.io.*;
+import java.lang.System.Logger.Level;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -24,6 +30,9 @@ import java.time.format.DateTimeFormatter;
  * @see GameSerializer
  */
 public class ScorePersistence {
+
+    /** Logger of this class */
+    private static final System.Logger LOGGER = Log.getLogger(ScorePersistence.class);
     
     /** Directory name where save files are stored */
     private static final String SAVE_DIRECTORY = "game_saves";
@@ -57,7 +66,12 @@ public class ScorePersistence {
         if (game == null) {
             throw new IllegalArgumentException("Game cannot be null");
         }
-        
+        long start = Timer.start();
+        AutosaveEvent event = Recording.isActive() ? new AutosaveEvent() : null;
+        if (event != null) {
+            event.begin();
+        }
+
         try {
             // Crear directorio si no existe
             Path saveDir = Paths.get(SAVE_DIRECTORY);
@@ -97,11 +111,18 @@ public class ScorePersistence {
                     }
                 }
                 
-                System.out.println("Información del juego guardada en: " + SCORE_PATH);
+                LOGGER.log(Level.DEBUG, () -> "Información del juego guardada en: " + SCORE_PATH);
+            }
+            if (event != null && event.shouldCommit()) {
+                event.kind = "info";
+                event.target = SCORE_PATH;
+                event.bytesWritten = Files.size(Paths.get(SCORE_PATH));
+                event.commit();
             }
         } catch (IOException e) {
-            System.err.println("Error guardando información del juego: " + e.getMessage());
-            e.printStackTrace();
+            LOGGER.log(Level.ERROR, () -> "Error guardando información del juego: " + e.getMessage(), e);
+        } finally {
+            Metrics.AUTOSAVE_INFO.stop(start);
         }
     }
 
@@ -129,7 +150,7 @@ public class ScorePersistence {
                 content.append(line).append("\n");
             }
         } catch (IOException e) {
-            System.err.println("Error leyendo información del juego: " + e.getMessage());
+            LOGGER.log(Level.ERROR, () -> "Error leyendo información del juego: " + e.getMessage());
             return "Error al cargar información del juego.";
         }
         
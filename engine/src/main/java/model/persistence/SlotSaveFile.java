@@ -0,0 +1,508 @@
+package model.persistence;
+
+import model.Board;
+import model.CellState;
+import model.Coordinate;
+import model.Game;
+import model.GameMode;
+import model.GameState;
+import model.HumanPlayer;
+import model.MachinePlayer;
+import model.Orientation;
+import model.Player;
+import model.Ship;
+import model.ShipType;
+import model.events.AutosaveEvent;
+import model.events.Recording;
+import model.exceptions.CellAlreadyShotException;
+import model.exceptions.InvalidShipPlacementException;
+import model.logging.Log;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.lang.System.Logger.Level;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Memory-mapped save file holding several games in fixed-size slots.
+ *
+ * <p>The whole file is mapped once through a {@link MappedByteBuffer}, so
+ * saving a game is a plain memory write: no stream is opened and no system
+ * call is issued per save. The operating system writes dirty pages back to
+ * disk on its own; {@link #force()} can be used to flush them explicitly.</p>
+ *
+ * <p>Each slot stores a compact encoding of a game instead of a serialized
+ * object graph:</p>
+ * <ul>
+ *   <li>a 64-byte header with the used flag, game state, current turn,
+ *       save timestamp, the player nickname and the game mode</li>
+ *   <li>one section per board with a byte per cell ({@link CellState}
+ *       ordinal) followed by the ship table (type, row, column and
+ *       orientation of each ship)</li>
+ * </ul>
+ *
+ * <p>Because cell states are stored in place, a shot is persisted with
+ * {@link #recordShot(int, Game, boolean, int, int)}, which only rewrites
+ * the affected cell bytes and the header.</p>
+ *
+ * @author Battle Naval Fury Team
+ * @version 1.0
+ * @since 1.0
+ * @see SaveSlotInfo
+ * @see GameSerializer
+ */
+public class SlotSaveFile implements Closeable {
+
+    /** Logger of this class */
+    private static final System.Logger LOGGER = Log.getLogger(SlotSaveFile.class);
+
+    /** Directory name where save files are stored */
+    private static final String SAVE_DIRECTORY = "game_saves";
+
+    /** Filename for the slot save file */
+    private static final String SLOT_FILE = "slots.dat";
+
+    /** Number of slots created for the default save file */
+    public static final int DEFAULT_SLOT_COUNT = 16;
+
+    /** Magic number identifying slot save files ("BNFS") */
+    private static final int MAGIC = 0x424E4653;
+
+    /** Version of the slot layout */
+    private static final int FORMAT_VERSION = 1;
+
+    /** Size of the file header in bytes */
+    private static final int FILE_HEADER_SIZE = 64;
+
+    /** Size of a slot header in bytes */
+    private static final int SLOT_HEADER_SIZE = 64;
+
+    /** Maximum number of nickname bytes stored (UTF-8) */
+    private static final int NICKNAME_BYTES = 48;
+
+    /** Maximum number of ships stored per board */
+    private static final int MAX_SHIPS = 16;
+
+    /** Bytes used by one ship entry: type, row, column, orientation */
+    private static final int SHIP_ENTRY_SIZE = 4;
+
+    /** Cell states by ordinal */
+    private static final CellState[] CELL_STATES = CellState.values();
+
+    /** Size of one board section in bytes */
+    private static final int BOARD_SECTION_SIZE = 192;
+
+    /** Size of one slot in bytes */
+    public static final int SLOT_SIZE = 512;
+
+    /** Bytes rewritten by {@link #writeTurn(int, Game)}: state, turn and timestamp */
+    private static final int TURN_BYTES = 2 + Long.BYTES;
+
+    /** Offset of the used flag inside a slot */
+    private static final int USED_OFFSET = 0;
+
+    /** Offset of the game state ordinal inside a slot */
+    private static final int STATE_OFFSET = 1;
+
+    /** Offset of the current player flag inside a slot (0 human, 1 machine) */
+    private static final int TURN_OFFSET = 2;
+
+    /** Offset of the nickname length inside a slot */
+    private static final int NICKNAME_LENGTH_OFFSET = 3;
+
+    /** Offset of the save timestamp inside a slot */
+    private static final int TIMESTAMP_OFFSET = 4;
+
+    /** Offset of the nickname bytes inside a slot */
+    private static final int NICKNAME_OFFSET = 12;
+
+    /** Offset of the game mode inside a slot; 0 (classic) in files written before modes existed */
+    private static final int MODE_OFFSET = NICKNAME_OFFSET + NICKNAME_BYTES;
+
+    /** Offset of the ship count inside a board section */
+    private static final int SHIP_COUNT_OFFSET = Board.SIZE * Board.SIZE;
+
+    /** Offset of the ship table inside a board section */
+    private static final int SHIP_TABLE_OFFSET = SHIP_COUNT_OFFSET + 1;
+
+    /** Shared instance backed by the default save file */
+    private static SlotSaveFile defaultFile;
+
+    /** Channel kept open while the file is mapped */
+    private final FileChannel channel;
+
+    /** Mapped view of the whole file */
+    private final MappedByteBuffer buffer;
+
+    /** Number of slots in the file */
+    private final int slotCount;
+
+    /**
+     * Creates a slot file over an already mapped channel.
+     *
+     * @param channel the open file channel
+     * @param buffer the mapped view of the file
+     * @param slotCount the number of slots in the file
+     */
+    private SlotSaveFile(FileChannel channel, MappedByteBuffer buffer, int slotCount) {
+        this.channel = channel;
+        this.buffer = buffer;
+        this.slotCount = slotCount;
+    }
+
+    /**
+     * Opens a slot save file, creating it if it doesn't exist.
+     *
+     * <p>An existing file keeps its own slot count; {@code slotCount} is
+     * only used when the file is created.</p>
+     *
+     * @param path the location of the file
+     * @param slotCount the number of slots for a new file
+     * @return the opened slot file
+     * @throws IOException if the file cannot be opened or is not a slot file
+     * @throws IllegalArgumentException if slotCount is not positive
+     */
+    public static SlotSaveFile open(Path path, int slotCount) throws IOException {
+        if (slotCount <= 0) {
+            throw new IllegalArgumentException("Slot count must be positive");
+        }
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null && !Files.exists(parent)) {
+            Files.createDirectories(parent);
+        }
+
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            boolean isNew = channel.size() == 0;
+            int slots = slotCount;
+            if (!isNew) {
+                MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, FILE_HEADER_SIZE);
+                if (header.getInt(0) != MAGIC || header.getInt(4) != FORMAT_VERSION
+                        || header.getInt(12) != SLOT_SIZE) {
+                    throw new IOException("El archivo " + path + " no es un archivo de ranuras válido.");
+                }
+                slots = header.getInt(8);
+            }
+
+            long fileSize = FILE_HEADER_SIZE + (long) slots * SLOT_SIZE;
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, fileSize);
+            if (isNew) {
+                buffer.putInt(0, MAGIC);
+                buffer.putInt(4, FORMAT_VERSION);
+                buffer.putInt(8, slots);
+                buffer.putInt(12, SLOT_SIZE);
+            }
+            return new SlotSaveFile(channel, buffer, slots);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Gets the shared slot file stored in the "game_saves" directory.
+     *
+     * <p>The file is opened and mapped on first use and kept open for the
+     * rest of the session.</p>
+     *
+     * @return the default slot file
+     * @throws IOException if the file cannot be opened
+     */
+    public static synchronized SlotSaveFile getDefault() throws IOException {
+        if (defaultFile == null) {
+            defaultFile = open(Paths.get(SAVE_DIRECTORY + File.separator + SLOT_FILE), DEFAULT_SLOT_COUNT);
+        }
+        return defaultFile;
+    }
+
+    /**
+     * Gets the number of slots in this file.
+     *
+     * @return the slot count
+     */
+    public int getSlotCount() {
+        return slotCount;
+    }
+
+    /**
+     * Writes the complete state of a game into a slot.
+     *
+     * <p>Used for the first save of a game and whenever ships are placed;
+     * shots only need {@link #recordShot(int, Game, boolean, int, int)}.</p>
+     *
+     * @param slot the slot index
+     * @param game the game to store
+     * @throws IllegalArgumentException if game is null, the slot is out of
+     *         range or a board holds more ships than a slot can store
+     */
+    public synchronized void writeGame(int slot, Game game) {
+        if (game == null) {
+            throw new IllegalArgumentException("Game cannot be null");
+        }
+        int base = slotOffset(slot);
+        AutosaveEvent event = Recording.isActive() ? new AutosaveEvent() : null;
+        if (event != null) {
+            event.begin();
+        }
+
+        byte[] nickname = encodeNickname(game.getHumanNickname());
+        buffer.put(base + NICKNAME_LENGTH_OFFSET, (byte) nickname.length);
+        buffer.put(base + NICKNAME_OFFSET, nickname);
+        buffer.put(base + MODE_OFFSET, (byte) game.getMode().ordinal());
+
+        writeBoard(base + SLOT_HEADER_SIZE, game.getHumanPlayer().getBoard());
+        writeBoard(base + SLOT_HEADER_SIZE + BOARD_SECTION_SIZE, game.getMachinePlayer().getBoard());
+
+        writeTurn(base, game);
+        buffer.put(base + USED_OFFSET, (byte) 1);
+        commitEvent(event, "slot", slot, SLOT_SIZE);
+    }
+
+    /**
+     * Persists a single shot of a game already stored in a slot.
+     *
+     * <p>Only the byte of the targeted cell is rewritten, plus the cells of
+     * the ship when the shot sunk it, together with the turn information in
+     * the slot header.</p>
+     *
+     * @param slot the slot index
+     * @param game the game the shot belongs to
+     * @param machineBoard true if the shot targeted the machine's board,
+     *        false if it targeted the human's board
+     * @param row the row of the shot
+     * @param col the column of the shot
+     * @throws IllegalStateException if the slot doesn't hold a game
+     */
+    public synchronized void recordShot(int slot, Game game, boolean machineBoard, int row, int col) {
+        int base = slotOffset(slot);
+        if (buffer.get(base + USED_OFFSET) == 0) {
+            throw new IllegalStateException("La ranura " + slot + " no contiene un juego.");
+        }
+        AutosaveEvent event = Recording.isActive() ? new AutosaveEvent() : null;
+        if (event != null) {
+            event.begin();
+        }
+        Player target = machineBoard ? game.getMachinePlayer() : game.getHumanPlayer();
+        int boardBase = base + SLOT_HEADER_SIZE + (machineBoard ? BOARD_SECTION_SIZE : 0);
+
+        int cellsWritten = 0;
+        Board board = target.getBoard();
+        if (Coordinate.isValid(row, col)) {
+            Ship ship = board.getShipAt(row, col);
+            if (ship != null && ship.isSunk()) {
+                Coordinate start = ship.getStart();
+                boolean vertical = ship.getOrientation() == Orientation.VERTICAL;
+                for (int i = 0; i < ship.getSize(); i++) {
+                    writeCell(boardBase, board, start.getRow() + (vertical ? i : 0), start.getCol() + (vertical ? 0 : i));
+                    cellsWritten++;
+                }
+            } else {
+                writeCell(boardBase, board, row, col);
+                cellsWritten++;
+            }
+        }
+        writeTurn(base, game);
+        commitEvent(event, "slot-shot", slot, cellsWritten + TURN_BYTES);
+    }
+
+    /**
+     * Commits the Flight Recorder event of a slot write, if there is one and it is being recorded.
+     */
+    private static void commitEvent(AutosaveEvent event, String kind, int slot, long bytesWritten) {
+        if (event != null && event.shouldCommit()) {
+            event.kind = kind;
+            event.target = "slot " + slot;
+            event.bytesWritten = bytesWritten;
+            event.commit();
+        }
+    }
+
+    /**
+     * Reads the game stored in a slot.
+     *
+     * <p>Ships are placed again on fresh boards and every recorded shot is
+     * replayed, so hit counters and sunk ships are restored consistently.</p>
+     *
+     * @param slot the slot index
+     * @return the stored game, or null if the slot is empty or unreadable
+     */
+    public synchronized Game readGame(int slot) {
+        int base = slotOffset(slot);
+        if (buffer.get(base + USED_OFFSET) == 0) {
+            return null;
+        }
+
+        String nickname = readNickname(base);
+        GameState state = GameState.values()[buffer.get(base + STATE_OFFSET)];
+        boolean machineTurn = buffer.get(base + TURN_OFFSET) == 1;
+        GameMode mode = GameMode.values()[buffer.get(base + MODE_OFFSET)];
+
+        try {
+            HumanPlayer human = new HumanPlayer(nickname);
+            MachinePlayer machine = new MachinePlayer("Máquina");
+            readBoard(base + SLOT_HEADER_SIZE, human.getBoard());
+            readBoard(base + SLOT_HEADER_SIZE + BOARD_SECTION_SIZE, machine.getBoard());
+            return new Game(human, machine, machineTurn ? machine : human, state, nickname, mode);
+        } catch (InvalidShipPlacementException | CellAlreadyShotException | RuntimeException e) {
+            LOGGER.log(Level.WARNING, () -> "Error leyendo la ranura " + slot + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Lists every slot of the file.
+     *
+     * <p>Only slot headers are read; board sections are never decoded.</p>
+     *
+     * @return one summary per slot, in slot order
+     */
+    public synchronized List<SaveSlotInfo> listSlots() {
+        List<SaveSlotInfo> slots = new ArrayList<>(slotCount);
+        for (int slot = 0; slot < slotCount; slot++) {
+            int base = slotOffset(slot);
+            if (buffer.get(base + USED_OFFSET) == 0) {
+                slots.add(new SaveSlotInfo(slot, false, null, null, 0L));
+            } else {
+                slots.add(new SaveSlotInfo(slot, true, readNickname(base),
+                        GameState.values()[buffer.get(base + STATE_OFFSET)],
+                        buffer.getLong(base + TIMESTAMP_OFFSET)));
+            }
+        }
+        return slots;
+    }
+
+    /**
+     * Marks a slot as empty.
+     *
+     * @param slot the slot index
+     */
+    public synchronized void clearSlot(int slot) {
+        buffer.put(slotOffset(slot) + USED_OFFSET, (byte) 0);
+    }
+
+    /**
+     * Forces pending changes to be written to disk.
+     */
+    public synchronized void force() {
+        buffer.force();
+    }
+
+    /**
+     * Flushes pending changes and closes the underlying channel.
+     *
+     * @throws IOException if the channel cannot be closed
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        buffer.force();
+        channel.close();
+    }
+
+    /**
+     * Computes the absolute offset of a slot.
+     *
+     * @param slot the slot index
+     * @return the offset of the slot in the mapped buffer
+     * @throws IllegalArgumentException if the slot is out of range
+     */
+    private int slotOffset(int slot) {
+        if (slot < 0 || slot >= slotCount) {
+            throw new IllegalArgumentException("Slot " + slot + " out of range (0-" + (slotCount - 1) + ")");
+        }
+        return FILE_HEADER_SIZE + slot * SLOT_SIZE;
+    }
+
+    /**
+     * Writes the game state, current turn and timestamp of a slot header.
+     */
+    private void writeTurn(int base, Game game) {
+        buffer.put(base + STATE_OFFSET, (byte) game.getGameState().ordinal());
+        buffer.put(base + TURN_OFFSET, (byte) (game.getCurrentPlayer() == game.getMachinePlayer() ? 1 : 0));
+        buffer.putLong(base + TIMESTAMP_OFFSET, System.currentTimeMillis());
+    }
+
+    /**
+     * Writes the state byte of a single cell into a board section.
+     */
+    private void writeCell(int boardBase, Board board, int row, int col) {
+        buffer.put(boardBase + row * Board.SIZE + col, (byte) board.getCellState(row, col).ordinal());
+    }
+
+    /**
+     * Writes a complete board section: every cell and the ship table.
+     */
+    private void writeBoard(int boardBase, Board board) {
+        List<Ship> ships = board.getShips();
+        if (ships.size() > MAX_SHIPS) {
+            throw new IllegalArgumentException("A board cannot hold more than " + MAX_SHIPS + " ships in a slot");
+        }
+        for (int row = 0; row < Board.SIZE; row++) {
+            for (int col = 0; col < Board.SIZE; col++) {
+                writeCell(boardBase, board, row, col);
+            }
+        }
+        buffer.put(boardBase + SHIP_COUNT_OFFSET, (byte) ships.size());
+        for (int i = 0; i < ships.size(); i++) {
+            Ship ship = ships.get(i);
+            Coordinate start = ship.getStart();
+            int entry = boardBase + SHIP_TABLE_OFFSET + i * SHIP_ENTRY_SIZE;
+            buffer.put(entry, (byte) ship.getType().ordinal());
+            buffer.put(entry + 1, (byte) start.getRow());
+            buffer.put(entry + 2, (byte) start.getCol());
+            buffer.put(entry + 3, (byte) ship.getOrientation().ordinal());
+        }
+    }
+
+    /**
+     * Restores a board section onto an empty board.
+     */
+    private void readBoard(int boardBase, Board board) throws InvalidShipPlacementException, CellAlreadyShotException {
+        int shipCount = buffer.get(boardBase + SHIP_COUNT_OFFSET);
+        for (int i = 0; i < shipCount; i++) {
+            int entry = boardBase + SHIP_TABLE_OFFSET + i * SHIP_ENTRY_SIZE;
+            Ship ship = ShipType.values()[buffer.get(entry)].createShip();
+            board.placeShip(ship, buffer.get(entry + 1), buffer.get(entry + 2),
+                    Orientation.values()[buffer.get(entry + 3)]);
+        }
+        for (int row = 0; row < Board.SIZE; row++) {
+            for (int col = 0; col < Board.SIZE; col++) {
+                CellState state = CELL_STATES[buffer.get(boardBase + row * Board.SIZE + col)];
+                if (state == CellState.WATER || state == CellState.HIT_SHIP_PART || state == CellState.SUNK_SHIP_PART) {
+                    board.receiveShot(row, col);
+                }
+            }
+        }
+    }
+
+    /**
+     * Encodes a nickname as UTF-8, trimmed to fit the slot header.
+     */
+    private static byte[] encodeNickname(String nickname) {
+        String value = nickname;
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        while (bytes.length > NICKNAME_BYTES) {
+            value = value.substring(0, value.length() - 1);
+            bytes = value.getBytes(StandardCharsets.UTF_8);
+        }
+        return bytes;
+    }
+
+    /**
+     * Reads the nickname stored in a slot header.
+     */
+    private String readNickname(int base) {
+        byte[] bytes = new byte[buffer.get(base + NICKNAME_LENGTH_OFFSET)];
+        buffer.get(base + NICKNAME_OFFSET, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,181 @@
+package model.replay;
+
+import model.Board;
+import model.Coordinate;
+import model.Orientation;
+import model.Ship;
+import model.ShipType;
+import model.ShotResult;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+/**
+ * Append-only record of every placement and shot of a game.
+ *
+ * <p>Each move is packed into a single {@code int}, so a journal is just a
+ * growable primitive array that serializes with the game and can be
+ * replayed by a {@link ReplayEngine} without allocating per move.</p>
+ *
+ * <p>Move layout:</p>
+ * <ul>
+ *   <li>bit 0: kind (0 placement, 1 shot)</li>
+ *   <li>bit 1: target board (0 human board, 1 machine board)</li>
+ *   <li>bits 2-4: {@link ShipType} ordinal for placements,
+ *       {@link ShotResult} ordinal for shots</li>
+ *   <li>bit 5: {@link Orientation} ordinal for placements</li>
+ *   <li>bits 6-31: cell index ({@code row * Board.SIZE + col})</li>
+ * </ul>
+ *
+ * @author Battle Naval Fury Team
+ * @version 1.0
+ * @since 1.0
+ * @see ReplayEngine
+ */
+public class GameJournal implements Serializable {
+
+    /** Serial version UID for serialization compatibility */
+    private static final long serialVersionUID = 1L;
+
+    /** Move kind of a ship placement */
+    public static final int PLACEMENT = 0;
+
+    /** Move kind of a shot */
+    public static final int SHOT = 1;
+
+    /** Packed moves, in the order they happened */
+    private int[] moves;
+
+    /** Number of recorded moves */
+    private int size;
+
+    /** Number of ships already recorded for each board (0 human, 1 machine) */
+    private final int[] recordedShips;
+
+    /**
+     * Creates an empty journal.
+     */
+    public GameJournal() {
+        this.moves = new int[64];
+        this.size = 0;
+        this.recordedShips = new int[2];
+    }
+
+    /**
+     * Records the placement of a ship.
+     *
+     * @param machineBoard true if the ship belongs to the machine's board
+     * @param type the type of the ship
+     * @param row the starting row of the ship
+     * @param col the starting column of the ship
+     * @param orientation the orientation of the ship
+     */
+    public void recordPlacement(boolean machineBoard, ShipType type, int row, int col, Orientation orientation) {
+        append(pack(PLACEMENT, machineBoard, type.ordinal(), orientation.ordinal(), row * Board.SIZE + col));
+        recordedShips[machineBoard ? 1 : 0]++;
+    }
+
+    /**
+     * Records every ship of a board that has not been recorded yet.
+     *
+     * <p>Ships are recorded in the order they appear on the board, which is
+     * the order in which they were placed.</p>
+     *
+     * @param machineBoard true for the machine's board
+     * @param board the board holding the ships
+     */
+    public void recordFleet(boolean machineBoard, Board board) {
+        int recorded = recordedShips[machineBoard ? 1 : 0];
+        for (int i = recorded; i < board.getShips().size(); i++) {
+            Ship ship = board.getShips().get(i);
+            Coordinate start = ship.getStart();
+            recordPlacement(machineBoard, ship.getType(), start.getRow(), start.getCol(), ship.getOrientation());
+        }
+    }
+
+    /**
+     * Records a shot and its result.
+     *
+     * @param machineBoard true if the shot targeted the machine's board
+     * @param row the row of the shot
+     * @param col the column of the shot
+     * @param result the result of the shot
+     */
+    public void recordShot(boolean machineBoard, int row, int col, ShotResult result) {
+        append(pack(SHOT, machineBoard, result.ordinal(), 0, row * Board.SIZE + col));
+    }
+
+    /**
+     * Gets the number of recorded moves.
+     *
+     * @return the journal length
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Gets a packed move.
+     *
+     * @param index the move index
+     * @return the packed move
+     * @throws IndexOutOfBoundsException if the index is out of range
+     */
+    public int get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Move " + index + " out of range (size " + size + ")");
+        }
+        return moves[index];
+    }
+
+    /**
+     * Returns a copy of the recorded moves.
+     *
+     * @return the packed moves, in order
+     */
+    public int[] toArray() {
+        return Arrays.copyOf(moves, size);
+    }
+
+    /** Gets the kind of a packed move ({@link #PLACEMENT} or {@link #SHOT}). */
+    public static int kind(int move) {
+        return move & 1;
+    }
+
+    /** Checks if a packed move targets the machine's board. */
+    public static boolean isMachineBoard(int move) {
+        return (move & 2) != 0;
+    }
+
+    /** Gets the {@link ShipType} or {@link ShotResult} ordinal of a packed move. */
+    public static int value(int move) {
+        return (move >>> 2) & 7;
+    }
+
+    /** Gets the {@link Orientation} ordinal of a packed placement. */
+    public static int orientation(int move) {
+        return (move >>> 5) & 1;
+    }
+
+    /** Gets the cell index of a packed move. */
+    public static int cellIndex(int move) {
+        return move >>> 6;
+    }
+
+    /**
+     * Packs a move into an int.
+     */
+    private static int pack(int kind, boolean machineBoard, int value, int orientation, int cellIndex) {
+        return kind | (machineBoard ? 2 : 0) | (value << 2) | (orientation << 5) | (cellIndex << 6);
+    }
+
+    /**
+     * Appends a packed move, growing the array when needed.
+     */
+    private void append(int move) {
+        if (size == moves.length) {
+            moves = Arrays.copyOf(moves, moves.length * 2);
+        }
+        moves[size++] = move;
+    }
+}
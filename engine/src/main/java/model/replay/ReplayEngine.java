@@ -0,0 +1,467 @@
+package model.replay;
+
+import model.Board;
+import model.CellState;
+import model.Orientation;
+import model.ShipType;
+import model.ShotResult;
+import model.exceptions.CellAlreadyShotException;
+import model.exceptions.InvalidShipPlacementException;
+
+/**
+ * Plays back a {@link GameJournal} move by move.
+ *
+ * <p>The engine works on primitive arrays instead of {@link Board} objects:
+ * one byte per cell with its {@link CellState} ordinal, one byte per cell
+ * with the id of the ship covering it, and a hit counter per ship. Applying
+ * a move touches only those arrays, so headless replays run at millions of
+ * moves per second.</p>
+ *
+ * <p>While the engine is built, the whole journal is applied once and a
+ * keyframe (a copy of the state arrays) is taken every
+ * {@code keyframeInterval} moves. Seeking restores the nearest earlier
+ * keyframe and applies at most {@code keyframeInterval - 1} moves, which
+ * makes random access independent of the length of the game.</p>
+ *
+ * <p>The same pass recomputes the result of every recorded shot; any
+ * difference with the journal is reported by {@link #getMismatchCount()},
+ * which makes recorded games usable as regression tests for the rules.</p>
+ *
+ * @author Battle Naval Fury Team
+ * @version 1.0
+ * @since 1.0
+ * @see GameJournal
+ * @see ReplayListener
+ */
+public class ReplayEngine {
+
+    /** Default number of moves between keyframes */
+    public static final int DEFAULT_KEYFRAME_INTERVAL = 32;
+
+    /** Number of cells on a board */
+    private static final int CELLS = Board.SIZE * Board.SIZE;
+
+    /** Cached cell states, indexed by ordinal */
+    private static final CellState[] CELL_STATES = CellState.values();
+
+    /** The journal being replayed */
+    private final int[] moves;
+
+    /** Number of moves between keyframes */
+    private final int keyframeInterval;
+
+    /** Starting cell index of each ship, per board */
+    private final int[][] shipStart;
+
+    /** Size of each ship, per board */
+    private final int[][] shipSize;
+
+    /** Cell step between ship segments (1 horizontal, Board.SIZE vertical), per board */
+    private final int[][] shipStep;
+
+    /** Type of each ship, per board */
+    private final ShipType[][] shipType;
+
+    /** Current replay state */
+    private final State state;
+
+    /** Keyframes, one every keyframeInterval moves */
+    private final State[] keyframes;
+
+    /** Cell states before a seek, used to report changed cells */
+    private final byte[][] previousCells;
+
+    /** Number of moves applied so far */
+    private int position;
+
+    /** Number of shots whose recomputed result differs from the journal */
+    private int mismatchCount;
+
+    /** Index of the first mismatching move, or -1 */
+    private int firstMismatch;
+
+    /** Fraction of a move carried over between {@link #advance(long, double)} calls */
+    private double pendingMoves;
+
+    /** Listener notified about changed cells, or null */
+    private ReplayListener listener;
+
+    /**
+     * Creates an engine with the default keyframe interval.
+     *
+     * @param journal the journal to replay
+     */
+    public ReplayEngine(GameJournal journal) {
+        this(journal, DEFAULT_KEYFRAME_INTERVAL);
+    }
+
+    /**
+     * Creates an engine for a journal.
+     *
+     * @param journal the journal to replay
+     * @param keyframeInterval number of moves between keyframes
+     * @throws IllegalArgumentException if journal is null or keyframeInterval is not positive
+     */
+    public ReplayEngine(GameJournal journal, int keyframeInterval) {
+        if (journal == null) {
+            throw new IllegalArgumentException("Journal cannot be null");
+        }
+        if (keyframeInterval <= 0) {
+            throw new IllegalArgumentException("Keyframe interval must be positive");
+        }
+        this.moves = journal.toArray();
+        this.keyframeInterval = keyframeInterval;
+
+        int[] shipCounts = new int[2];
+        for (int move : moves) {
+            if (GameJournal.kind(move) == GameJournal.PLACEMENT) {
+                shipCounts[board(move)]++;
+            }
+        }
+        this.shipStart = new int[][]{new int[shipCounts[0]], new int[shipCounts[1]]};
+        this.shipSize = new int[][]{new int[shipCounts[0]], new int[shipCounts[1]]};
+        this.shipStep = new int[][]{new int[shipCounts[0]], new int[shipCounts[1]]};
+        this.shipType = new ShipType[][]{new ShipType[shipCounts[0]], new ShipType[shipCounts[1]]};
+
+        int[] next = new int[2];
+        for (int move : moves) {
+            if (GameJournal.kind(move) == GameJournal.PLACEMENT) {
+                int b = board(move);
+                int id = next[b]++;
+                ShipType type = ShipType.values()[GameJournal.value(move)];
+                shipType[b][id] = type;
+                shipSize[b][id] = type.getSize();
+                shipStart[b][id] = GameJournal.cellIndex(move);
+                shipStep[b][id] = GameJournal.orientation(move) == Orientation.HORIZONTAL.ordinal() ? 1 : Board.SIZE;
+            }
+        }
+
+        this.state = new State(shipCounts);
+        this.previousCells = new byte[2][CELLS];
+        this.keyframes = new State[moves.length / keyframeInterval + 1];
+        this.firstMismatch = -1;
+
+        // Primera pasada: construir keyframes y verificar resultados
+        keyframes[0] = state.copy();
+        for (int i = 0; i < moves.length; i++) {
+            ShotResult result = apply(moves[i], false);
+            if (GameJournal.kind(moves[i]) == GameJournal.SHOT && result.ordinal() != GameJournal.value(moves[i])) {
+                mismatchCount++;
+                if (firstMismatch < 0) {
+                    firstMismatch = i;
+                }
+            }
+            if ((i + 1) % keyframeInterval == 0) {
+                keyframes[(i + 1) / keyframeInterval] = state.copy();
+            }
+        }
+        state.copyFrom(keyframes[0]);
+        this.position = 0;
+    }
+
+    /**
+     * Sets the listener notified about every changed cell.
+     *
+     * @param listener the listener, or null to run headless
+     */
+    public void setListener(ReplayListener listener) {
+        this.listener = listener;
+    }
+
+    /**
+     * Gets the number of moves in the replay.
+     *
+     * @return the journal length
+     */
+    public int length() {
+        return moves.length;
+    }
+
+    /**
+     * Gets the number of moves applied so far.
+     *
+     * @return the current position (0 to {@link #length()})
+     */
+    public int getPosition() {
+        return position;
+    }
+
+    /**
+     * Checks if every move has been applied.
+     *
+     * @return true at the end of the replay
+     */
+    public boolean isFinished() {
+        return position == moves.length;
+    }
+
+    /**
+     * Applies the next move.
+     *
+     * @return the result of the move (null for placements), or null at the end of the replay
+     */
+    public ShotResult step() {
+        if (position >= moves.length) {
+            return null;
+        }
+        ShotResult result = apply(moves[position], listener != null);
+        position++;
+        notifyPosition();
+        return result;
+    }
+
+    /**
+     * Moves the replay to the given position.
+     *
+     * <p>Short forward seeks apply the moves directly; any other seek
+     * restores the nearest earlier keyframe first.</p>
+     *
+     * @param target the number of moves that should be applied
+     * @throws IllegalArgumentException if target is out of range
+     */
+    public void seek(int target) {
+        if (target < 0 || target > moves.length) {
+            throw new IllegalArgumentException("Position " + target + " out of range (0-" + moves.length + ")");
+        }
+        if (target == position) {
+            return;
+        }
+        boolean notify = listener != null;
+        if (notify) {
+            System.arraycopy(state.cells[0], 0, previousCells[0], 0, CELLS);
+            System.arraycopy(state.cells[1], 0, previousCells[1], 0, CELLS);
+        }
+
+        if (target < position || target - position >= keyframeInterval) {
+            int keyframe = target / keyframeInterval;
+            state.copyFrom(keyframes[keyframe]);
+            position = keyframe * keyframeInterval;
+        }
+        while (position < target) {
+            apply(moves[position++], false);
+        }
+
+        if (notify) {
+            for (int b = 0; b < 2; b++) {
+                for (int i = 0; i < CELLS; i++) {
+                    if (previousCells[b][i] != state.cells[b][i]) {
+                        listener.cellChanged(b == 1, i / Board.SIZE, i % Board.SIZE, CELL_STATES[state.cells[b][i]]);
+                    }
+                }
+            }
+            notifyPosition();
+        }
+    }
+
+    /**
+     * Advances the replay according to the elapsed time and playback speed.
+     *
+     * <p>Fractions of a move are carried over to the next call, so the
+     * replay keeps an exact pace whatever the caller's frame rate.</p>
+     *
+     * @param elapsedNanos time elapsed since the previous call
+     * @param movesPerSecond playback speed
+     * @return the number of moves applied
+     */
+    public int advance(long elapsedNanos, double movesPerSecond) {
+        pendingMoves += elapsedNanos / 1_000_000_000.0 * movesPerSecond;
+        int due = (int) Math.min(pendingMoves, moves.length - position);
+        pendingMoves -= due;
+        if (due > keyframeInterval) {
+            seek(position + due);
+        } else {
+            for (int i = 0; i < due; i++) {
+                step();
+            }
+        }
+        if (isFinished()) {
+            pendingMoves = 0;
+        }
+        return due;
+    }
+
+    /**
+     * Gets the state of a cell at the current position.
+     *
+     * @param machineBoard true for the machine's board
+     * @param row the row of the cell
+     * @param col the column of the cell
+     * @return the cell state
+     */
+    public CellState getCellState(boolean machineBoard, int row, int col) {
+        return CELL_STATES[state.cells[machineBoard ? 1 : 0][row * Board.SIZE + col]];
+    }
+
+    /**
+     * Gets the number of sunk ships on a board at the current position.
+     *
+     * @param machineBoard true for the machine's board
+     * @return the sunk ship count
+     */
+    public int getSunkShipsCount(boolean machineBoard) {
+        return state.sunk[machineBoard ? 1 : 0];
+    }
+
+    /**
+     * Gets the number of shots whose recomputed result differs from the journal.
+     *
+     * @return the mismatch count, 0 when the rules reproduce the recorded game
+     */
+    public int getMismatchCount() {
+        return mismatchCount;
+    }
+
+    /**
+     * Gets the index of the first shot whose recomputed result differs from the journal.
+     *
+     * @return the move index, or -1 if there is no mismatch
+     */
+    public int getFirstMismatch() {
+        return firstMismatch;
+    }
+
+    /**
+     * Builds a regular board matching a board of the replay at the current position.
+     *
+     * <p>Useful to hand the replayed state to the existing board views.</p>
+     *
+     * @param machineBoard true for the machine's board
+     * @return a new board with the same ships and shots
+     */
+    public Board toBoard(boolean machineBoard) {
+        int b = machineBoard ? 1 : 0;
+        Board board = new Board();
+        try {
+            for (int id = 0; id < state.shipCount[b]; id++) {
+                int start = shipStart[b][id];
+                board.placeShip(shipType[b][id].createShip(), start / Board.SIZE, start % Board.SIZE,
+                        shipStep[b][id] == 1 ? Orientation.HORIZONTAL : Orientation.VERTICAL);
+            }
+            for (int i = 0; i < CELLS; i++) {
+                if (isShot(state.cells[b][i])) {
+                    board.receiveShot(i / Board.SIZE, i % Board.SIZE);
+                }
+            }
+        } catch (InvalidShipPlacementException | CellAlreadyShotException e) {
+            throw new IllegalStateException("El registro no corresponde a un tablero válido: " + e.getMessage(), e);
+        }
+        return board;
+    }
+
+    /**
+     * Applies a packed move to the current state.
+     *
+     * @param move the packed move
+     * @param notify whether to report changed cells to the listener
+     * @return the recomputed shot result, or null for placements
+     */
+    private ShotResult apply(int move, boolean notify) {
+        int b = board(move);
+        int index = GameJournal.cellIndex(move);
+        byte[] cells = state.cells[b];
+        byte[] shipAt = state.shipAt[b];
+
+        if (GameJournal.kind(move) == GameJournal.PLACEMENT) {
+            int id = state.shipCount[b]++;
+            for (int i = 0, cell = index; i < shipSize[b][id]; i++, cell += shipStep[b][id]) {
+                shipAt[cell] = (byte) (id + 1);
+                cells[cell] = (byte) CellState.SHIP_PART.ordinal();
+                if (notify) {
+                    notifyCell(b, cell);
+                }
+            }
+            return null;
+        }
+
+        if (isShot(cells[index])) {
+            return ShotResult.ALREADY_SHOT;
+        }
+        int id = shipAt[index] - 1;
+        if (id < 0) {
+            cells[index] = (byte) CellState.WATER.ordinal();
+            if (notify) {
+                notifyCell(b, index);
+            }
+            return ShotResult.WATER;
+        }
+        if (++state.shipHits[b][id] < shipSize[b][id]) {
+            cells[index] = (byte) CellState.HIT_SHIP_PART.ordinal();
+            if (notify) {
+                notifyCell(b, index);
+            }
+            return ShotResult.TOUCH;
+        }
+        state.sunk[b]++;
+        for (int i = 0, cell = shipStart[b][id]; i < shipSize[b][id]; i++, cell += shipStep[b][id]) {
+            cells[cell] = (byte) CellState.SUNK_SHIP_PART.ordinal();
+            if (notify) {
+                notifyCell(b, cell);
+            }
+        }
+        return ShotResult.SUNK;
+    }
+
+    private void notifyCell(int b, int cell) {
+        listener.cellChanged(b == 1, cell / Board.SIZE, cell % Board.SIZE, CELL_STATES[state.cells[b][cell]]);
+    }
+
+    private void notifyPosition() {
+        if (listener != null) {
+            listener.positionChanged(position, moves.length);
+        }
+    }
+
+    private static int board(int move) {
+        return GameJournal.isMachineBoard(move) ? 1 : 0;
+    }
+
+    private static boolean isShot(byte cellState) {
+        return cellState == CellState.WATER.ordinal() || cellState == CellState.HIT_SHIP_PART.ordinal()
+                || cellState == CellState.SUNK_SHIP_PART.ordinal();
+    }
+
+    /**
+     * Mutable replay state of both boards; keyframes are copies of it.
+     */
+    private static final class State {
+
+        /** Cell state ordinals, per board */
+        final byte[][] cells;
+
+        /** Ship id + 1 covering each cell (0 for water), per board */
+        final byte[][] shipAt;
+
+        /** Hits received by each ship, per board */
+        final int[][] shipHits;
+
+        /** Number of ships placed, per board */
+        final int[] shipCount;
+
+        /** Number of sunk ships, per board */
+        final int[] sunk;
+
+        State(int[] shipCounts) {
+            this.cells = new byte[2][CELLS];
+            this.shipAt = new byte[2][CELLS];
+            this.shipHits = new int[][]{new int[shipCounts[0]], new int[shipCounts[1]]};
+            this.shipCount = new int[2];
+            this.sunk = new int[2];
+        }
+
+        State copy() {
+            State copy = new State(new int[]{shipHits[0].length, shipHits[1].length});
+            copy.copyFrom(this);
+            return copy;
+        }
+
+        void copyFrom(State other) {
+            for (int b = 0; b < 2; b++) {
+                System.arraycopy(other.cells[b], 0, cells[b], 0, CELLS);
+                System.arraycopy(other.shipAt[b], 0, shipAt[b], 0, CELLS);
+                System.arraycopy(other.shipHits[b], 0, shipHits[b], 0, shipHits[b].length);
+                shipCount[b] = other.shipCount[b];
+                sunk[b] = other.sunk[b];
+            }
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package model.replay;
+
+import model.CellState;
+
+/**
+ * Receives the changes produced by a {@link ReplayEngine}.
+ *
+ * <p>Views implement this interface to follow a replay; headless replays
+ * simply run without a listener.</p>
+ *
+ * @author Battle Naval Fury Team
+ * @version 1.0
+ * @since 1.0
+ * @see ReplayEngine#setListener(ReplayListener)
+ */
+public interface ReplayListener {
+
+    /**
+     * Called for every cell whose state changed.
+     *
+     * @param machineBoard true if the cell belongs to the machine's board
+     * @param row the row of the cell
+     * @param col the column of the cell
+     * @param state the new state of the cell
+     */
+    void cellChanged(boolean machineBoard, int row, int col, CellState state);
+
+    /**
+     * Called after the replay position changed.
+     *
+     * @param position the number of moves applied
+     * @param length the total number of moves
+     */
+    void positionChanged(int position, int length);
+}
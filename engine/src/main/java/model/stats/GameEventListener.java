@@ -0,0 +1,53 @@
+package model.stats;
+
+import model.ShipType;
+import model.ShotResult;
+
+import java.util.List;
+
+/**
+ * Receives the stream of events produced by running games.
+ *
+ * <p>Events are delivered synchronously on the thread that plays the move,
+ * so implementations must be cheap and must not block.</p>
+ *
+ * @author Battle Naval Fury Team
+ * @version 1.0
+ * @since 1.0
+ * @see GameEvents
+ * @see StatsEngine
+ */
+public interface GameEventListener {
+
+    /**
+     * Called when the battle phase of a game starts.
+     *
+     * @param fleet the types of every ship of both players
+     */
+    void gameStarted(List<ShipType> fleet);
+
+    /**
+     * Called after every resolved shot.
+     *
+     * @param shooter the name of the player who fired
+     * @param result the result of the shot
+     * @param moveNanos time since the previous shot of the game, or 0 for the first shot
+     */
+    void shotFired(String shooter, ShotResult result, long moveNanos);
+
+    /**
+     * Called when a shot sinks a ship.
+     *
+     * @param type the type of the sunk ship
+     */
+    void shipSunk(ShipType type);
+
+    /**
+     * Called when a game ends.
+     *
+     * @param winner the name of the winning player
+     * @param loser the name of the losing player
+     * @param winnerShots the number of shots fired by the winner
+     */
+    void gameOver(String winner, String loser, int winnerShots);
+}
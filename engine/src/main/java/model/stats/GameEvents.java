@@ -0,0 +1,84 @@
+package model.stats;
+
+import model.ShipType;
+import model.ShotResult;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Dispatches game events to the registered listeners.
+ *
+ * <p>The listeners are kept in an array that is replaced on registration,
+ * so publishing an event is a plain loop without locking or allocation.
+ * The default {@link StatsEngine} is registered from the start.</p>
+ *
+ * @author Battle Naval Fury Team
+ * @version 1.0
+ * @since 1.0
+ * @see GameEventListener
+ */
+public final class GameEvents {
+
+    /** Registered listeners, replaced as a whole on every change */
+    private static volatile GameEventListener[] listeners = {StatsEngine.getDefault()};
+
+    /**
+     * Private constructor to prevent instantiation of utility class.
+     */
+    private GameEvents() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    /**
+     * Registers a listener.
+     *
+     * @param listener the listener to add
+     * @throws IllegalArgumentException if listener is null
+     */
+    public static synchronized void addListener(GameEventListener listener) {
+        if (listener == null) {
+            throw new IllegalArgumentException("Listener cannot be null");
+        }
+        GameEventListener[] updated = Arrays.copyOf(listeners, listeners.length + 1);
+        updated[listeners.length] = listener;
+        listeners = updated;
+    }
+
+    /**
+     * Removes a listener.
+     *
+     * @param listener the listener to remove
+     */
+    public static synchronized void removeListener(GameEventListener listener) {
+        listeners = Arrays.stream(listeners).filter(l -> l != listener).toArray(GameEventListener[]::new);
+    }
+
+    /** Publishes {@link GameEventListener#gameStarted(List)}. */
+    public static void gameStarted(List<ShipType> fleet) {
+        for (GameEventListener listener : listeners) {
+            listener.gameStarted(fleet);
+        }
+    }
+
+    /** Publishes {@link GameEventListener#shotFired(String, ShotResult, long)}. */
+    public static void shotFired(String shooter, ShotResult result, long moveNanos) {
+        for (GameEventListener listener : listeners) {
+            listener.shotFired(shooter, result, moveNanos);
+        }
+    }
+
+    /** Publishes {@link GameEventListener#shipSunk(ShipType)}. */
+    public static void shipSunk(ShipType type) {
+        for (GameEventListener listener : listeners) {
+            listener.shipSunk(type);
+        }
+    }
+
+    /** Publishes {@link GameEventListener#gameOver(String, String, int)}. */
+    public static void gameOver(String winner, String loser, int winnerShots) {
+        for (GameEventListener listener : listeners) {
+            listener.gameOver(winner, loser, winnerShots);
+        }
+    }
+}
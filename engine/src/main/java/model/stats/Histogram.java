@@ -0,0 +1,203 @@
+package model.stats;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Fixed-size log-linear histogram of non-negative long values.
+ *
+ * <p>Like an HDR histogram, values below {@value #SUB_BUCKETS} are counted
+ * exactly and larger values fall into buckets whose width doubles with
+ * each power of two, with {@value #SUB_BUCKETS}/2 buckets per power. This
+ * keeps the relative error of any reported value around 3% over the whole
+ * {@code long} range while using a constant {@value #BUCKET_COUNT} counters.</p>
+ *
+ * <p>Recording is a couple of bit operations and one atomic increment, so
+ * it can run inline on every shot. Counters are atomic, so the histogram
+ * can be queried from any thread while values are still being recorded.</p>
+ *
+ * @author Battle Naval Fury Team
+ * @version 1.0
+ * @since 1.0
+ * @see StatsEngine
+ */
+public class Histogram {
+
+    /** Number of bits of precision kept for each value */
+    private static final int SUB_BUCKET_BITS = 5;
+
+    /** Number of values counted exactly */
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+    /** Number of buckets per power of two above {@link #SUB_BUCKETS} */
+    private static final int HALF = SUB_BUCKETS / 2;
+
+    /** Total number of buckets */
+    private static final int BUCKET_COUNT = SUB_BUCKETS + (Long.SIZE - SUB_BUCKET_BITS) * HALF;
+
+    /** Count of values per bucket */
+    private final AtomicLongArray counts;
+
+    /** Number of recorded values */
+    private final AtomicLong count;
+
+    /** Sum of recorded values */
+    private final AtomicLong sum;
+
+    /** Smallest recorded value */
+    private final AtomicLong min;
+
+    /** Largest recorded value */
+    private final AtomicLong max;
+
+    /**
+     * Creates an empty histogram.
+     */
+    public Histogram() {
+        this.counts = new AtomicLongArray(BUCKET_COUNT);
+        this.count = new AtomicLong();
+        this.sum = new AtomicLong();
+        this.min = new AtomicLong(Long.MAX_VALUE);
+        this.max = new AtomicLong(0);
+    }
+
+    /**
+     * Records a value. Negative values are recorded as 0.
+     *
+     * @param value the value to record
+     */
+    public void record(long value) {
+        long v = Math.max(0, value);
+        counts.incrementAndGet(bucketOf(v));
+        count.incrementAndGet();
+        sum.addAndGet(v);
+        if (v < min.get()) {
+            min.accumulateAndGet(v, Math::min);
+        }
+        if (v > max.get()) {
+            max.accumulateAndGet(v, Math::max);
+        }
+    }
+
+    /**
+     * Gets the number of recorded values.
+     *
+     * @return the value count
+     */
+    public long getCount() {
+        return count.get();
+    }
+
+    /**
+     * Gets the mean of the recorded values.
+     *
+     * @return the exact mean, or 0 if nothing was recorded
+     */
+    public double getMean() {
+        long n = count.get();
+        return n == 0 ? 0 : (double) sum.get() / n;
+    }
+
+    /**
+     * Gets the sum of the recorded values.
+     *
+     * @return the exact sum
+     */
+    public long getSum() {
+        return sum.get();
+    }
+
+    /**
+     * Gets the smallest recorded value.
+     *
+     * @return the exact minimum, or 0 if nothing was recorded
+     */
+    public long getMin() {
+        return count.get() == 0 ? 0 : min.get();
+    }
+
+    /**
+     * Gets the largest recorded value.
+     *
+     * @return the exact maximum, or 0 if nothing was recorded
+     */
+    public long getMax() {
+        return max.get();
+    }
+
+    /**
+     * Gets the value below which the given percentage of values fall.
+     *
+     * @param percentile the percentile, between 0 and 100
+     * @return the approximate value at the percentile, or 0 if nothing was recorded
+     */
+    public long getValueAtPercentile(double percentile) {
+        long n = count.get();
+        if (n == 0) {
+            return 0;
+        }
+        long target = Math.max(1, (long) Math.ceil(Math.min(100, Math.max(0, percentile)) / 100.0 * n));
+        long seen = 0;
+        for (int bucket = 0; bucket < BUCKET_COUNT; bucket++) {
+            seen += counts.get(bucket);
+            if (seen >= target) {
+                return Math.min(representativeOf(bucket), getMax());
+            }
+        }
+        return getMax();
+    }
+
+    /**
+     * Gets the number of recorded values that fall in the same bucket as a value.
+     *
+     * @param value the value to look up
+     * @return the count of the bucket holding the value
+     */
+    public long getCountAt(long value) {
+        return counts.get(bucketOf(Math.max(0, value)));
+    }
+
+    /**
+     * Clears every recorded value.
+     */
+    public void reset() {
+        for (int bucket = 0; bucket < BUCKET_COUNT; bucket++) {
+            counts.set(bucket, 0);
+        }
+        count.set(0);
+        sum.set(0);
+        min.set(Long.MAX_VALUE);
+        max.set(0);
+    }
+
+    /**
+     * Computes the bucket of a non-negative value.
+     */
+    private static int bucketOf(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int exponent = (Long.SIZE - 1 - Long.numberOfLeadingZeros(value)) - SUB_BUCKET_BITS + 1;
+        int mantissa = (int) (value >>> exponent);
+        return SUB_BUCKETS + (exponent - 1) * HALF + (mantissa - HALF);
+    }
+
+    /**
+     * Gets the value reported for a bucket: the middle of its range.
+     */
+    private static long representativeOf(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        int offset = bucket - SUB_BUCKETS;
+        int exponent = offset / HALF + 1;
+        long lower = (long) (offset % HALF + HALF) << exponent;
+        return lower + ((1L << exponent) >>> 1);
+    }
+
+    @Override
+    public String toString() {
+        return "n=" + getCount() + " media=" + String.format("%.2f", getMean()) + " p50=" + getValueAtPercentile(50)
+                + " p99=" + getValueAtPercentile(99) + " max=" + getMax();
+    }
+}
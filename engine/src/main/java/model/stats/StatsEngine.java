@@ -0,0 +1,243 @@
+package model.stats;
+
+import model.ShipType;
+import model.ShotResult;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Rolling statistics computed from the stream of game events.
+ *
+ * <p>Every aggregate is updated in place with atomic counters and
+ * fixed-size {@link Histogram}s, so memory stays constant however many
+ * games are played, events cost a few atomic increments, and any query can
+ * be answered at any moment without pausing play. Tracked aggregates:</p>
+ * <ul>
+ *   <li>accuracy and longest hit streak per player</li>
+ *   <li>shots needed to win a game</li>
+ *   <li>length of hit streaks</li>
+ *   <li>time per move</li>
+ *   <li>ship survival rate per {@link ShipType}</li>
+ * </ul>
+ *
+ * @author Battle Naval Fury Team
+ * @version 1.0
+ * @since 1.0
+ * @see GameEvents
+ * @see Histogram
+ */
+public class StatsEngine implements GameEventListener {
+
+    /** Shared engine fed by every game */
+    private static final StatsEngine DEFAULT = new StatsEngine();
+
+    /** Shot counters per player */
+    private final Map<String, ShooterStats> shooters;
+
+    /** Shots fired by the winner of each game */
+    private final Histogram shotsToWin;
+
+    /** Length of every finished hit streak */
+    private final Histogram hitStreaks;
+
+    /** Time between consecutive shots, in microseconds */
+    private final Histogram moveTimes;
+
+    /** Ships deployed per type, indexed by ordinal */
+    private final AtomicLongArray shipsDeployed;
+
+    /** Ships sunk per type, indexed by ordinal */
+    private final AtomicLongArray shipsSunk;
+
+    /** Number of finished games */
+    private final AtomicLong gamesPlayed;
+
+    /**
+     * Creates an engine with empty aggregates.
+     */
+    public StatsEngine() {
+        this.shooters = new ConcurrentHashMap<>();
+        this.shotsToWin = new Histogram();
+        this.hitStreaks = new Histogram();
+        this.moveTimes = new Histogram();
+        this.shipsDeployed = new AtomicLongArray(ShipType.values().length);
+        this.shipsSunk = new AtomicLongArray(ShipType.values().length);
+        this.gamesPlayed = new AtomicLong();
+    }
+
+    /**
+     * Gets the shared engine registered in {@link GameEvents}.
+     *
+     * @return the default engine
+     */
+    public static StatsEngine getDefault() {
+        return DEFAULT;
+    }
+
+    @Override
+    public void gameStarted(List<ShipType> fleet) {
+        for (ShipType type : fleet) {
+            shipsDeployed.incrementAndGet(type.ordinal());
+        }
+    }
+
+    @Override
+    public void shotFired(String shooter, ShotResult result, long moveNanos) {
+        ShooterStats stats = shooters.computeIfAbsent(shooter, name -> new ShooterStats());
+        stats.shots.incrementAndGet();
+        if (result == ShotResult.TOUCH || result == ShotResult.SUNK) {
+            stats.hits.incrementAndGet();
+            long streak = stats.currentStreak.incrementAndGet();
+            if (streak > stats.longestStreak.get()) {
+                stats.longestStreak.accumulateAndGet(streak, Math::max);
+            }
+        } else {
+            endStreak(stats);
+        }
+        if (moveNanos > 0) {
+            moveTimes.record(moveNanos / 1_000);
+        }
+    }
+
+    @Override
+    public void shipSunk(ShipType type) {
+        shipsSunk.incrementAndGet(type.ordinal());
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Only the streaks of the two players of the finished game end;
+     * games of other players in progress keep theirs.</p>
+     */
+    @Override
+    public void gameOver(String winner, String loser, int winnerShots) {
+        gamesPlayed.incrementAndGet();
+        shotsToWin.record(winnerShots);
+        endStreak(winner);
+        endStreak(loser);
+    }
+
+    /**
+     * Gets the fraction of a player's shots that hit a ship.
+     *
+     * @param player the name of the player
+     * @return the accuracy between 0 and 1, or 0 if the player never fired
+     */
+    public double getAccuracy(String player) {
+        ShooterStats stats = shooters.get(player);
+        if (stats == null || stats.shots.get() == 0) {
+            return 0;
+        }
+        return (double) stats.hits.get() / stats.shots.get();
+    }
+
+    /**
+     * Gets the longest hit streak of a player.
+     *
+     * @param player the name of the player
+     * @return the longest streak, or 0 if the player never hit
+     */
+    public long getLongestStreak(String player) {
+        ShooterStats stats = shooters.get(player);
+        return stats == null ? 0 : stats.longestStreak.get();
+    }
+
+    /**
+     * Gets the fraction of deployed ships of a type that were never sunk.
+     *
+     * <p>Ships of games still in progress count as surviving.</p>
+     *
+     * @param type the ship type
+     * @return the survival rate between 0 and 1, or 1 if no ship of the type was deployed
+     */
+    public double getSurvivalRate(ShipType type) {
+        long deployed = shipsDeployed.get(type.ordinal());
+        if (deployed == 0) {
+            return 1;
+        }
+        return 1 - (double) shipsSunk.get(type.ordinal()) / deployed;
+    }
+
+    /** Gets the histogram of shots fired by the winner of each game. */
+    public Histogram getShotsToWin() {
+        return shotsToWin;
+    }
+
+    /** Gets the histogram of hit streak lengths. */
+    public Histogram getHitStreaks() {
+        return hitStreaks;
+    }
+
+    /** Gets the histogram of time per move, in microseconds. */
+    public Histogram getMoveTimes() {
+        return moveTimes;
+    }
+
+    /**
+     * Gets the number of finished games.
+     *
+     * @return the game count
+     */
+    public long getGamesPlayed() {
+        return gamesPlayed.get();
+    }
+
+    /**
+     * Builds a readable summary of every aggregate.
+     *
+     * @return the statistics report
+     */
+    public String report() {
+        StringBuilder report = new StringBuilder();
+        report.append("=== ESTADÍSTICAS ===\n");
+        report.append("Partidas terminadas: ").append(getGamesPlayed()).append('\n');
+        for (Map.Entry<String, ShooterStats> entry : shooters.entrySet()) {
+            report.append(entry.getKey()).append(": precisión ")
+                    .append(String.format("%.1f%%", getAccuracy(entry.getKey()) * 100))
+                    .append(", mejor racha ").append(entry.getValue().longestStreak.get()).append('\n');
+        }
+        report.append("Disparos para ganar: ").append(shotsToWin).append('\n');
+        report.append("Rachas de aciertos: ").append(hitStreaks).append('\n');
+        report.append("Tiempo por jugada (µs): ").append(moveTimes).append('\n');
+        for (ShipType type : ShipType.values()) {
+            report.append("Supervivencia ").append(type.getDisplayName()).append(": ")
+                    .append(String.format("%.1f%%", getSurvivalRate(type) * 100)).append('\n');
+        }
+        return report.toString();
+    }
+
+    /**
+     * Ends the current streak of a player by name, if the player has fired.
+     */
+    private void endStreak(String player) {
+        ShooterStats stats = shooters.get(player);
+        if (stats != null) {
+            endStreak(stats);
+        }
+    }
+
+    /**
+     * Records the current streak of a player, if any, and starts a new one.
+     */
+    private void endStreak(ShooterStats stats) {
+        long streak = stats.currentStreak.getAndSet(0);
+        if (streak > 0) {
+            hitStreaks.record(streak);
+        }
+    }
+
+    /**
+     * Shot counters of one player.
+     */
+    private static final class ShooterStats {
+        final AtomicLong shots = new AtomicLong();
+        final AtomicLong hits = new AtomicLong();
+        final AtomicLong currentStreak = new AtomicLong();
+        final AtomicLong longestStreak = new AtomicLong();
+    }
+}
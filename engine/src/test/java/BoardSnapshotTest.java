@@ -0,0 +1,79 @@
+import model.*;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Verifica que las instantáneas del tablero no cambian con los disparos posteriores
+ */
+public class BoardSnapshotTest {
+
+    @Test
+    public void snapshotKeepsStateAfterLaterShots() throws Exception {
+        Board board = new Board();
+        board.placeShip(new Destroyer(), 2, 3, Orientation.VERTICAL);
+        board.placeShip(new Frigate(), 0, 0, Orientation.HORIZONTAL);
+
+        BoardSnapshot before = board.snapshot();
+        assertSame(before.getCellState(0, 0), board.snapshot().getCellState(0, 0));
+        assertEquals(before, board.snapshot());
+
+        board.receiveShot(2, 3);
+        board.receiveShot(9, 9);
+        BoardSnapshot after = board.snapshot();
+
+        assertEquals(CellState.SHIP_PART, before.getCellState(2, 3));
+        assertFalse(before.wasShot(9, 9));
+        assertEquals(CellState.HIT_SHIP_PART, after.getCellState(2, 3));
+        assertEquals(CellState.WATER, after.getCellState(9, 9));
+        assertNotEquals(before, after);
+
+        assertEquals(2, after.getShipCount());
+        assertEquals(ShipType.DESTROYER, after.getShipType(0));
+        assertEquals(2, after.getShipRow(0));
+        assertEquals(3, after.getShipCol(0));
+        assertEquals(Orientation.VERTICAL, after.getShipOrientation(0));
+    }
+
+    @Test
+    public void toBoardRebuildsFleetAndShots() throws Exception {
+        Game game = new Game("Snapshot", 7L);
+        Board board = game.getMachinePlayer().getBoard();
+        board.receiveShot(4, 4);
+
+        BoardSnapshot snapshot = board.snapshot();
+        Board copy = snapshot.toBoard();
+
+        assertEquals(board.getShips().size(), copy.getShips().size());
+        assertEquals(snapshot, copy.snapshot());
+        for (int row = 0; row < Board.SIZE; row++) {
+            for (int col = 0; col < Board.SIZE; col++) {
+                assertEquals(board.getCell(row, col).getCellState(), snapshot.getCellState(row, col));
+            }
+        }
+    }
+
+    @Test
+    public void undoAndRedoRestoreTheSameBoard() throws Exception {
+        Board board = new Board();
+        board.placeShip(new Submarine(), 1, 1, Orientation.HORIZONTAL);
+        BoardSnapshot oneShip = board.snapshot();
+        board.placeShip(new Destroyer(), 3, 2, Orientation.VERTICAL);
+        BoardSnapshot twoShips = board.snapshot();
+
+        Ship undone = board.undoPlacement();
+        assertEquals(ShipType.DESTROYER, undone.getType());
+        assertEquals(oneShip, board.snapshot());
+        assertNull(board.getCell(3, 2).getShipPart());
+        assertTrue(board.canRedoPlacement());
+
+        assertSame(undone, board.redoPlacement());
+        assertEquals(twoShips, board.snapshot());
+        assertFalse(board.canRedoPlacement());
+
+        board.undoPlacement();
+        board.placeShip(new Frigate(), 3, 2, Orientation.HORIZONTAL);
+        assertFalse(board.canRedoPlacement());
+        assertEquals(2, board.getShips().size());
+    }
+}
@@ -0,0 +1,56 @@
+import model.stats.Histogram;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Verifica los cubos y la precisión de los percentiles del histograma
+ */
+public class HistogramTest {
+
+    @Test
+    public void smallValuesAreCountedExactly() {
+        Histogram histogram = new Histogram();
+        for (int value = 0; value < 32; value++) {
+            histogram.record(value);
+        }
+        histogram.record(-5);
+
+        assertEquals(33, histogram.getCount());
+        assertEquals(2, histogram.getCountAt(0));
+        for (int value = 1; value < 32; value++) {
+            assertEquals(1, histogram.getCountAt(value));
+        }
+        assertEquals(15, histogram.getValueAtPercentile(50));
+        assertEquals(31, histogram.getValueAtPercentile(100));
+        assertEquals(0, histogram.getMin());
+        assertEquals(31, histogram.getMax());
+        assertEquals(496, histogram.getSum());
+    }
+
+    @Test
+    public void largeValuesStayWithinRelativeError() {
+        Histogram histogram = new Histogram();
+        int n = 100_000;
+        for (int value = 1; value <= n; value++) {
+            histogram.record(value);
+        }
+
+        assertEquals(n, histogram.getCount());
+        assertEquals((n + 1) / 2.0, histogram.getMean(), 1e-9);
+        // 1000 cae en el cubo [992, 1024), de anchura 32
+        assertEquals(32, histogram.getCountAt(1000));
+        assertEquals(32, histogram.getCountAt(992));
+        for (double percentile : new double[] {10, 50, 90, 99, 99.9}) {
+            long exact = (long) Math.ceil(percentile / 100 * n);
+            long reported = histogram.getValueAtPercentile(percentile);
+            assertEquals(exact, reported, exact * 0.032, "p" + percentile);
+        }
+        assertEquals(n, histogram.getValueAtPercentile(100));
+
+        histogram.reset();
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getValueAtPercentile(50));
+        assertEquals(0, histogram.getMax());
+    }
+}
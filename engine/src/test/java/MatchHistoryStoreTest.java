@@ -0,0 +1,102 @@
+import model.persistence.MatchHistoryStore;
+import model.persistence.MatchRecord;
+import model.persistence.PlayerStats;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Verifica el historial de partidas: encadenamiento por jugador, índice y clasificaciones
+ */
+public class MatchHistoryStoreTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void appendedMatchesSurviveReopening() throws Exception {
+        MatchHistoryStore store = MatchHistoryStore.open(tempDir);
+        store.append(match("Ana", true, 40));
+        store.append(match("Ben", false, 60));
+        store.append(match("Ana", false, 70));
+        store.append(match("Ana", true, 50));
+
+        MatchHistoryStore reopened = MatchHistoryStore.open(tempDir);
+        List<MatchRecord> history = reopened.history("Ana", 10);
+        assertEquals(3, history.size());
+        assertEquals(50, history.get(0).getShots());
+        assertEquals(70, history.get(1).getShots());
+        assertEquals(40, history.get(2).getShots());
+        assertEquals(2, reopened.history("Ana", 2).size());
+        assertTrue(reopened.history("Nadie", 10).isEmpty());
+
+        PlayerStats ana = reopened.getStats("Ana");
+        assertEquals(3, ana.getGames());
+        assertEquals(2, ana.getWins());
+        assertEquals(160, ana.getTotalShots());
+        assertEquals(45.0, ana.getAverageShotsToWin(), 1e-9);
+        assertEquals(1, reopened.getStats("Ben").getGames());
+        assertNull(reopened.getStats("Nadie"));
+    }
+
+    @Test
+    public void staleOrCorruptIndexIsRebuiltFromHistory() throws Exception {
+        Path index = tempDir.resolve("match_history.idx");
+        Path savedIndex = tempDir.resolve("old.idx");
+        MatchHistoryStore store = MatchHistoryStore.open(tempDir);
+        store.append(match("Ana", true, 40));
+        Files.copy(index, savedIndex);
+        store.append(match("Ana", false, 70));
+        store.append(match("Ben", true, 30));
+
+        // Índice que solo cubre el primer registro
+        Files.copy(savedIndex, index, StandardCopyOption.REPLACE_EXISTING);
+        MatchHistoryStore rebuilt = MatchHistoryStore.open(tempDir);
+        assertEquals(2, rebuilt.getStats("Ana").getGames());
+        assertEquals(1, rebuilt.getStats("Ben").getWins());
+        assertEquals(2, rebuilt.history("Ana", 10).size());
+
+        Files.write(index, new byte[] {1, 2, 3});
+        MatchHistoryStore repaired = MatchHistoryStore.open(tempDir);
+        assertEquals(2, repaired.getStats("Ana").getGames());
+        assertEquals(70, repaired.history("Ana", 1).get(0).getShots());
+
+        repaired.append(match("Ben", false, 80));
+        assertEquals(2, MatchHistoryStore.open(tempDir).getStats("Ben").getGames());
+    }
+
+    @Test
+    public void leaderboardsAreSortedBestFirst() throws Exception {
+        MatchHistoryStore store = MatchHistoryStore.open(tempDir);
+        store.append(match("Ana", true, 50));
+        store.append(match("Ana", false, 90));
+        store.append(match("Ben", true, 60));
+        store.append(match("Ben", true, 40));
+        store.append(match("Cris", true, 30));
+        store.append(match("Dani", false, 100));
+
+        List<PlayerStats> byWinRate = store.topByWinRate(10);
+        assertEquals(4, byWinRate.size());
+        assertEquals("Ben", byWinRate.get(0).getPlayer());
+        assertEquals("Cris", byWinRate.get(1).getPlayer());
+        assertEquals("Ana", byWinRate.get(2).getPlayer());
+        assertEquals("Dani", byWinRate.get(3).getPlayer());
+        assertEquals(2, store.topByWinRate(2).size());
+
+        List<PlayerStats> byShots = store.topByAverageShots(10);
+        assertEquals(3, byShots.size());
+        assertEquals("Cris", byShots.get(0).getPlayer());
+        assertEquals("Ana", byShots.get(1).getPlayer());
+        assertEquals("Ben", byShots.get(2).getPlayer());
+    }
+
+    private static MatchRecord match(String player, boolean won, int shots) {
+        return new MatchRecord(player, won, shots, 1000L, 1L, System.currentTimeMillis());
+    }
+}
@@ -0,0 +1,68 @@
+import model.*;
+import model.replay.GameJournal;
+import model.replay.ReplayEngine;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Verifica que la repetición reproduce el tablero real en cualquier posición
+ */
+public class ReplayEngineTest {
+
+    @Test
+    public void replayMatchesBoardAtEveryPosition() throws Exception {
+        Board board = new Board();
+        GameJournal journal = new GameJournal();
+        board.placeShip(new AircraftCarrier(), 0, 0, Orientation.HORIZONTAL);
+        board.placeShip(new Submarine(), 2, 5, Orientation.VERTICAL);
+        board.placeShip(new Frigate(), 9, 9, Orientation.HORIZONTAL);
+        journal.recordFleet(false, board);
+
+        Random random = new Random(42);
+        CellState[][][] history = new CellState[Board.SIZE * Board.SIZE + 1][][];
+        history[0] = statesOf(board);
+        int shots = 0;
+        while (!board.allShipsSunk()) {
+            int row = random.nextInt(Board.SIZE);
+            int col = random.nextInt(Board.SIZE);
+            if (board.wasShot(row, col)) {
+                continue;
+            }
+            journal.recordShot(false, row, col, board.receiveShot(row, col));
+            history[++shots] = statesOf(board);
+        }
+
+        ReplayEngine engine = new ReplayEngine(journal, 4);
+        assertEquals(0, engine.getMismatchCount());
+        assertEquals(3 + shots, engine.length());
+
+        for (int target : new int[]{engine.length(), 3, 3 + shots / 2, 5, engine.length() - 1, 0}) {
+            engine.seek(target);
+            CellState[][] expected = target < 3 ? null : history[target - 3];
+            if (expected != null) {
+                for (int row = 0; row < Board.SIZE; row++) {
+                    for (int col = 0; col < Board.SIZE; col++) {
+                        assertEquals(expected[row][col], engine.getCellState(false, row, col));
+                    }
+                }
+            }
+        }
+
+        engine.seek(engine.length());
+        assertEquals(3, engine.getSunkShipsCount(false));
+        assertTrue(engine.toBoard(false).allShipsSunk());
+    }
+
+    private static CellState[][] statesOf(Board board) {
+        CellState[][] states = new CellState[Board.SIZE][Board.SIZE];
+        for (int row = 0; row < Board.SIZE; row++) {
+            for (int col = 0; col < Board.SIZE; col++) {
+                states[row][col] = board.getCell(row, col).getCellState();
+            }
+        }
+        return states;
+    }
+}
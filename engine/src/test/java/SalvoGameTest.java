@@ -0,0 +1,70 @@
+import model.*;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Verifica las salvas: resultados por lotes sin excepciones y partidas completas
+ */
+public class SalvoGameTest {
+
+    @Test
+    public void receiveShotsReportsEveryShotWithoutThrowing() throws Exception {
+        Board board = new Board();
+        board.placeShip(new Destroyer(), 0, 0, Orientation.HORIZONTAL);
+
+        int[] cells = {0, 5, 0, 1, -1};
+        byte[] results = new byte[cells.length];
+        assertEquals(2, board.receiveShots(cells, results));
+
+        assertEquals(ShotResult.TOUCH.ordinal(), results[0]);
+        assertEquals(ShotResult.WATER.ordinal(), results[1]);
+        assertEquals(ShotResult.ALREADY_SHOT.ordinal(), results[2]);
+        assertEquals(ShotResult.SUNK.ordinal(), results[3]);
+        assertEquals(ShotResult.INVALID_SHOT.ordinal(), results[4]);
+        assertTrue(board.allShipsSunk());
+
+        assertEquals(Board.SIZE * Board.SIZE - 3, board.getUnshotCount());
+        for (int i = 0; i < board.getUnshotCount(); i++) {
+            int cell = board.getUnshotCell(i);
+            assertFalse(board.wasShot(cell / Board.SIZE, cell % Board.SIZE));
+        }
+    }
+
+    @Test
+    public void salvoTurnsAlternateAfterEverySalvo() throws Exception {
+        Game game = new Game("Salvo", 11L, GameMode.SALVO);
+        game.setAutosave(false);
+        Board human = game.getHumanPlayer().getBoard();
+        game.getMachinePlayer().getBoard().snapshot().copyFleetTo(human);
+        game.startGamePlay();
+
+        byte[] results = new byte[Game.FLEET_CONFIGURATION.size()];
+        int next = 0;
+        for (int round = 0; round < 3; round++) {
+            assertEquals(GameState.PLAYER_TURN, game.getGameState());
+            assertEquals(human.getShips().size() - human.getSunkShipsCount(), game.getSalvoSize());
+            int[] cells = new int[game.getSalvoSize()];
+            for (int i = 0; i < cells.length; i++) {
+                cells[i] = next++;
+            }
+            game.processPlayerSalvo(cells, results);
+
+            assertEquals(GameState.MACHINE_TURN, game.getGameState());
+            int[] oversized = new int[game.getSalvoSize() + 1];
+            int shotsBefore = game.getMachineShots();
+            assertThrows(IllegalArgumentException.class,
+                    () -> game.processMachineSalvo(oversized, new byte[oversized.length]));
+            assertEquals(shotsBefore, game.getMachineShots());
+            assertEquals(GameState.MACHINE_TURN, game.getGameState());
+            int[] machineCells = new int[game.getSalvoSize()];
+            game.processMachineSalvo(machineCells, results);
+            for (int cell : machineCells) {
+                assertTrue(human.wasShot(cell / Board.SIZE, cell % Board.SIZE));
+            }
+        }
+
+        assertEquals(next, game.getHumanShots());
+        assertThrows(IllegalStateException.class, () -> game.processPlayerShot(9, 9));
+    }
+}
@@ -0,0 +1,110 @@
+import model.*;
+import model.persistence.GameSerializer;
+import model.persistence.SaveIndex;
+import model.persistence.SaveMetadata;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Verifica la cabecera de metadatos de los guardados y el índice de guardados
+ */
+public class SaveIndexTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void metadataHeaderRoundTrips() {
+        String longNickname = "ñ".repeat(40);
+        SaveMetadata metadata = new SaveMetadata("partida_1", longNickname, GameState.MACHINE_TURN,
+                true, 2, 3, 1234567L, 4096L);
+        ByteBuffer buffer = ByteBuffer.allocate(SaveMetadata.SIZE * 2);
+        metadata.writeTo(buffer);
+        assertEquals(SaveMetadata.SIZE, buffer.position());
+
+        buffer.flip();
+        SaveMetadata read = SaveMetadata.readFrom(buffer);
+        assertEquals("partida_1", read.getSaveName());
+        assertEquals("ñ".repeat(32), read.getNickname());
+        assertEquals(GameState.MACHINE_TURN, read.getGameState());
+        assertTrue(read.isMachineTurn());
+        assertEquals(2, read.getHumanShipsSunk());
+        assertEquals(3, read.getMachineShipsSunk());
+        assertEquals(1234567L, read.getSavedAtMillis());
+        assertEquals(4096L, read.getSize());
+
+        ByteBuffer blank = ByteBuffer.allocate(SaveMetadata.SIZE);
+        assertNull(SaveMetadata.readFrom(blank));
+        assertEquals(SaveMetadata.SIZE, blank.position());
+    }
+
+    @Test
+    public void loadsSavesWithAndWithoutHeader() throws Exception {
+        Game game = new Game("Guardado", 3L);
+        ByteArrayOutputStream payload = new ByteArrayOutputStream();
+        try (ObjectOutputStream objectOut = new ObjectOutputStream(payload)) {
+            objectOut.writeObject(game);
+        }
+
+        Path oldFile = tempDir.resolve("old.ser");
+        Files.write(oldFile, payload.toByteArray());
+        Game loaded = GameSerializer.loadGame(oldFile);
+        assertEquals("Guardado", loaded.getHumanNickname());
+
+        ByteBuffer header = ByteBuffer.allocate(SaveMetadata.SIZE);
+        SaveMetadata.of("nuevo", game, payload.size()).writeTo(header);
+        Path newFile = tempDir.resolve("new.ser");
+        ByteArrayOutputStream withHeader = new ByteArrayOutputStream();
+        withHeader.write(header.array());
+        payload.writeTo(withHeader);
+        Files.write(newFile, withHeader.toByteArray());
+        loaded = GameSerializer.loadGame(newFile);
+        assertEquals("Guardado", loaded.getHumanNickname());
+        assertEquals(game.getMachinePlayer().getBoard().snapshot(),
+                loaded.getMachinePlayer().getBoard().snapshot());
+
+        assertNull(GameSerializer.loadGame(tempDir.resolve("missing.ser")));
+    }
+
+    @Test
+    public void indexUpdatesRecordsInPlace() throws Exception {
+        Path file = tempDir.resolve("saves.idx");
+        SaveIndex index = new SaveIndex(file);
+        assertTrue(index.list().isEmpty());
+
+        index.put(save("a", 1L));
+        index.put(save("b", 2L));
+        index.put(save("a", 3L));
+        assertEquals(2 * SaveMetadata.SIZE, Files.size(file));
+        assertEquals(3L, index.get("a").getSavedAtMillis());
+        assertNull(index.get("c"));
+
+        List<SaveMetadata> reread = new SaveIndex(file).list();
+        assertEquals(2, reread.size());
+        assertEquals("a", reread.get(0).getSaveName());
+        assertEquals(3L, reread.get(0).getSavedAtMillis());
+        assertEquals("b", reread.get(1).getSaveName());
+
+        index.remove("a");
+        index.put(save("c", 4L));
+        index.put(save("b", 5L));
+        assertEquals(2 * SaveMetadata.SIZE, Files.size(file));
+        reread = new SaveIndex(file).list();
+        assertEquals("b", reread.get(0).getSaveName());
+        assertEquals(5L, reread.get(0).getSavedAtMillis());
+        assertEquals("c", reread.get(1).getSaveName());
+    }
+
+    private static SaveMetadata save(String name, long savedAt) {
+        return new SaveMetadata(name, "Jugador", GameState.PLAYER_TURN, false, 0, 0, savedAt, 100L);
+    }
+}
@@ -0,0 +1,34 @@
+import model.*;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Verifica el registro de impactos por segmento de los barcos
+ */
+public class ShipHitMaskTest {
+
+    @Test
+    public void tracksHitSegmentsAndSinksOnFullFootprint() throws Exception {
+        Board board = new Board();
+        Ship submarine = new Submarine();
+        board.placeShip(submarine, 4, 6, Orientation.VERTICAL);
+
+        assertEquals(ShotResult.TOUCH, board.receiveShot(5, 6));
+        assertEquals(1, submarine.segmentOf(Coordinate.of(5, 6)));
+        assertTrue(submarine.isSegmentHit(1));
+        assertFalse(submarine.isSegmentHit(0));
+        assertFalse(submarine.registerHit(Coordinate.of(5, 6)));
+        assertEquals(1, submarine.getHits());
+
+        assertEquals(ShotResult.TOUCH, board.receiveShot(4, 6));
+        assertEquals(ShotResult.SUNK, board.receiveShot(6, 6));
+        assertTrue(submarine.isSunk());
+        assertEquals(0b111, submarine.getHitMask());
+        for (Cell cell : submarine.getOccupiedCells()) {
+            assertEquals(CellState.SUNK_SHIP_PART, cell.getCellState());
+        }
+        assertEquals(CellState.SUNK_SHIP_PART, board.snapshot().getCellState(4, 6));
+        assertEquals(-1, submarine.segmentOf(Coordinate.of(4, 7)));
+    }
+}
@@ -0,0 +1,52 @@
+import model.*;
+import model.persistence.SaveSlotInfo;
+import model.persistence.SlotSaveFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Verifica que el archivo de ranuras conserva los juegos y sus disparos
+ */
+public class SlotSaveFileTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    public void writesAndReadsGamesInSeparateSlots() throws Exception {
+        Path file = tempDir.resolve("slots.dat");
+        Game game = new Game("Slotter");
+        game.getHumanPlayer().getBoard().placeShip(new Destroyer(), 0, 0, Orientation.HORIZONTAL);
+        game.getMachinePlayer().getBoard().receiveShot(5, 5);
+
+        try (SlotSaveFile slots = SlotSaveFile.open(file, 4)) {
+            slots.writeGame(2, game);
+            game.getHumanPlayer().getBoard().receiveShot(0, 0);
+            slots.recordShot(2, game, false, 0, 0);
+        }
+
+        try (SlotSaveFile slots = SlotSaveFile.open(file, 8)) {
+            assertEquals(4, slots.getSlotCount());
+
+            List<SaveSlotInfo> infos = slots.listSlots();
+            assertFalse(infos.get(0).isUsed());
+            assertTrue(infos.get(2).isUsed());
+            assertEquals("Slotter", infos.get(2).getNickname());
+
+            Game loaded = slots.readGame(2);
+            Board human = loaded.getHumanPlayer().getBoard();
+            assertEquals(1, human.getShips().size());
+            assertEquals(CellState.HIT_SHIP_PART, human.getCell(0, 0).getCellState());
+            assertEquals(CellState.SHIP_PART, human.getCell(0, 1).getCellState());
+            assertTrue(loaded.getMachinePlayer().getBoard().wasShot(5, 5));
+            assertEquals(game.getMachinePlayer().getBoard().getShips().size(),
+                    loaded.getMachinePlayer().getBoard().getShips().size());
+            assertNull(slots.readGame(1));
+        }
+    }
+}
@@ -0,0 +1,61 @@
+import model.ShipType;
+import model.ShotResult;
+import model.stats.StatsEngine;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Verifica la agregación de estadísticas a partir de los eventos de juego
+ */
+public class StatsEngineTest {
+
+    @Test
+    public void aggregatesShotsStreaksAndSurvival() {
+        StatsEngine stats = new StatsEngine();
+        stats.gameStarted(List.of(ShipType.DESTROYER, ShipType.DESTROYER, ShipType.FRIGATE));
+
+        stats.shotFired("Ana", ShotResult.TOUCH, 0);
+        stats.shotFired("Ana", ShotResult.SUNK, 2_000_000);
+        stats.shipSunk(ShipType.DESTROYER);
+        stats.shotFired("Ana", ShotResult.WATER, 4_000_000);
+        stats.shotFired("Ana", ShotResult.TOUCH, 1_000_000);
+
+        assertEquals(0.75, stats.getAccuracy("Ana"), 1e-9);
+        assertEquals(2, stats.getLongestStreak("Ana"));
+        assertEquals(1, stats.getHitStreaks().getCount());
+        assertEquals(3, stats.getMoveTimes().getCount());
+        assertEquals(2000, stats.getMoveTimes().getValueAtPercentile(50), 2000 * 0.032);
+        assertEquals(0.5, stats.getSurvivalRate(ShipType.DESTROYER), 1e-9);
+        assertEquals(1.0, stats.getSurvivalRate(ShipType.FRIGATE), 1e-9);
+        assertEquals(1.0, stats.getSurvivalRate(ShipType.SUBMARINE), 1e-9);
+        assertEquals(0, stats.getAccuracy("Nadie"));
+
+        stats.gameOver("Ana", "Máquina", 4);
+        assertEquals(1, stats.getGamesPlayed());
+        assertEquals(4, stats.getShotsToWin().getMax());
+        assertEquals(2, stats.getHitStreaks().getCount());
+    }
+
+    @Test
+    public void gameOverOnlyEndsStreaksOfItsPlayers() {
+        StatsEngine stats = new StatsEngine();
+        for (int i = 0; i < 3; i++) {
+            stats.shotFired("Ana", ShotResult.TOUCH, 0);
+            stats.shotFired("Ben", ShotResult.TOUCH, 0);
+        }
+
+        stats.gameOver("Ana", "Máquina", 30);
+        assertEquals(1, stats.getHitStreaks().getCount());
+        assertEquals(3, stats.getHitStreaks().getMax());
+
+        stats.shotFired("Ben", ShotResult.TOUCH, 0);
+        assertEquals(4, stats.getLongestStreak("Ben"));
+        stats.shotFired("Ben", ShotResult.WATER, 0);
+        assertEquals(2, stats.getHitStreaks().getCount());
+        assertEquals(4, stats.getHitStreaks().getMax());
+        assertEquals(3, stats.getLongestStreak("Ana"));
+    }
+}
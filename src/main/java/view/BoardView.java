@@ -1,4 +0,0 @@
-package view;
-
-public class BoardView {
-}
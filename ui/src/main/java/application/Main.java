@@ -0,0 +1,54 @@
+package application;
+
+import controller.Navigator;
+import javafx.animation.AnimationTimer;
+import javafx.application.Application;
+import javafx.stage.Stage;
+import model.logging.Log;
+import model.metrics.Metrics;
+import view.Assets;
+
+import java.lang.System.Logger.Level;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.TimeUnit;
+
+public class Main extends Application {
+
+    /** Logger of this class */
+    private static final System.Logger LOGGER = Log.getLogger(Main.class);
+
+    @Override
+    public void start(Stage primaryStage) {
+        // Decode images and register fonts while the menu is being built
+        Assets.preload();
+        try {
+            primaryStage.setResizable(false);
+            Navigator.init(primaryStage);
+            Navigator.show(Navigator.Screen.MENU);
+            reportFirstFrame();
+        } catch (Exception e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Reports the time from JVM start to the first frame, then builds the
+     * ship placement screen ahead of time.
+     */
+    private static void reportFirstFrame() {
+        new AnimationTimer() {
+            @Override
+            public void handle(long now) {
+                stop();
+                long millis = System.currentTimeMillis() - ManagementFactory.getRuntimeMXBean().getStartTime();
+                Metrics.FIRST_FRAME.record(TimeUnit.MILLISECONDS.toNanos(millis));
+                LOGGER.log(Level.INFO, () -> "Primer fotograma a los " + millis + " ms del arranque");
+                Navigator.prefetch(Navigator.Screen.PLACEMENT);
+            }
+        }.start();
+    }
+
+    public static void main(String[] args) {
+        launch(args);
+    }
+}
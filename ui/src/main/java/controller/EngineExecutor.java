@@ -0,0 +1,94 @@
+package controller;
+
+import javafx.application.Platform;
+import model.logging.Log;
+
+import java.lang.System.Logger.Level;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+
+/**
+ * Runs game engine work away from the JavaFX application thread.
+ *
+ * <p>Machine decisions and autosaves run on a single daemon thread, so the
+ * engine state of a game is only ever touched by one thread at a time and
+ * a slow strategy or a slow disk never freezes the interface. The result
+ * of each task, which should be an immutable snapshot such as a
+ * {@link model.ShotOutcome}, is handed back on the application thread
+ * through {@link Platform#runLater(Runnable)}.</p>
+ *
+ * @author Battle Naval Fury Team
+ * @version 1.0
+ * @since 1.0
+ */
+public final class EngineExecutor {
+
+    /** Logger of this class */
+    private static final System.Logger LOGGER = Log.getLogger(EngineExecutor.class);
+
+    /**
+     * Engine work that produces a result.
+     *
+     * @param <T> the type of the result
+     */
+    @FunctionalInterface
+    public interface EngineTask<T> {
+        /**
+         * Runs the work on the engine thread.
+         *
+         * @return the result to hand to the application thread
+         * @throws Exception if the work fails
+         */
+        T run() throws Exception;
+    }
+
+    /** Shared executor */
+    private static final EngineExecutor DEFAULT = new EngineExecutor();
+
+    /** Engine thread */
+    private final ExecutorService executor;
+
+    /**
+     * Creates an executor with its own daemon engine thread.
+     */
+    private EngineExecutor() {
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "game-engine");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Gets the shared executor.
+     *
+     * @return the default executor
+     */
+    public static EngineExecutor getDefault() {
+        return DEFAULT;
+    }
+
+    /**
+     * Runs a task on the engine thread and hands its result, or its failure,
+     * to the application thread.
+     *
+     * @param task the engine work
+     * @param onResult receives the result on the application thread
+     * @param onError receives the failure on the application thread
+     * @param <T> the type of the result
+     */
+    public <T> void submit(EngineTask<T> task, Consumer<? super T> onResult, Consumer<? super Exception> onError) {
+        executor.execute(() -> {
+            T result;
+            try {
+                result = task.run();
+            } catch (Exception e) {
+                LOGGER.log(Level.DEBUG, () -> "Tarea del motor fallida: " + e);
+                Platform.runLater(() -> onError.accept(e));
+                return;
+            }
+            Platform.runLater(() -> onResult.accept(result));
+        });
+    }
+}
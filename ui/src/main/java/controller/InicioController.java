@@ -2,23 +2,23 @@ package controller;
 
 import javafx.fxml.FXML;
 import javafx.scene.control.Button;
-import javafx.scene.Parent;
-import javafx.scene.Scene;
-import javafx.stage.Stage;
-import javafx.fxml.FXMLLoader;
+import javafx.scene.layout.AnchorPane;
 import javafx.animation.ScaleTransition;
 import javafx.util.Duration;
 import javafx.scene.control.Label;
+import view.Assets;
 
 import java.io.IOException;
 
 public class InicioController {
 
+    @FXML private AnchorPane root;
     @FXML private Button playButton, outButton;
     @FXML private Label navalLabel, battleLabel, furyLabel;
 
     @FXML
     public void initialize() {
+        Assets.applyMenuBackground(root);
         aplicarLatido(navalLabel);
         aplicarLatido(battleLabel);
         aplicarLatido(furyLabel);
@@ -26,17 +26,7 @@ public class InicioController {
         playButton.setOnAction(e -> {
             try {
                 // Cambiar la ruta para ir a la pantalla de colocación de barcos
-                FXMLLoader loader = new FXMLLoader(getClass().getResource("/view/ship-placement.fxml"));
-                Parent root = loader.load();
-                Stage newStage = new Stage();
-                newStage.setTitle("Naval Battle - Colocación de Barcos");
-                newStage.setScene(new Scene(root));
-                newStage.setResizable(false);
-                newStage.show();
-
-                Stage currentStage = (Stage) playButton.getScene().getWindow();
-                currentStage.close();
-
+                Navigator.show(Navigator.Screen.PLACEMENT);
             } catch (IOException ex) {
                 ex.printStackTrace();
             }
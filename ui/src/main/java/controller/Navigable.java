@@ -0,0 +1,27 @@
+package controller;
+
+/**
+ * Controller of a screen that {@link Navigator} keeps and shows again.
+ *
+ * <p>Screens are built once; instead of loading a new scene, the navigator
+ * asks the controller to go back to its initial state each time the screen
+ * is shown again.</p>
+ *
+ * @author Battle Naval Fury Team
+ * @version 1.0
+ * @since 1.0
+ */
+public interface Navigable {
+
+    /**
+     * Called when the screen is shown again, to restore its initial state.
+     * Not called the first time, right after the screen is loaded.
+     */
+    void reset();
+
+    /**
+     * Called when another screen replaces this one, to stop any pending work.
+     */
+    default void leave() {
+    }
+}
@@ -0,0 +1,156 @@
+package controller;
+
+import javafx.fxml.FXMLLoader;
+import javafx.scene.Scene;
+import javafx.stage.Stage;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Moves between the screens of the game inside the primary stage.
+ *
+ * <p>Each screen is loaded the first time it is shown and then kept with
+ * its scene and controller; later visits only swap the scene of the stage
+ * and {@link Navigable#reset() reset} the controller, so no window is
+ * opened or closed and no FXML is parsed again. All methods must be
+ * called on the JavaFX application thread.</p>
+ *
+ * @author Battle Naval Fury Team
+ * @version 1.0
+ * @since 1.0
+ */
+public final class Navigator {
+
+    /**
+     * Screens of the game.
+     */
+    public enum Screen {
+        /** Main menu */
+        MENU("/view/inicio.fxml", "Batalla Naval"),
+        /** Ship placement before a round */
+        PLACEMENT("/view/ship-placement.fxml", "Naval Battle - Colocación de Barcos"),
+        /** Game board */
+        GAME("/view/stage.fxml", "Naval Battle - Juego");
+
+        /** Resource path of the FXML file */
+        private final String fxml;
+
+        /** Window title while the screen is shown */
+        private final String title;
+
+        Screen(String fxml, String title) {
+            this.fxml = fxml;
+            this.title = title;
+        }
+
+        /**
+         * Gets the resource path of the FXML file.
+         *
+         * @return the FXML path
+         */
+        public String getFxml() {
+            return fxml;
+        }
+
+        /**
+         * Gets the window title of the screen.
+         *
+         * @return the title
+         */
+        public String getTitle() {
+            return title;
+        }
+    }
+
+    /** The only window of the game */
+    private static Stage stage;
+
+    /** Scenes of the screens already loaded */
+    private static final Map<Screen, Scene> SCENES = new EnumMap<>(Screen.class);
+
+    /** Controllers of the screens already loaded */
+    private static final Map<Screen, Object> CONTROLLERS = new EnumMap<>(Screen.class);
+
+    /** Screen being shown, or null before the first one */
+    private static Screen current;
+
+    /**
+     * Private constructor to prevent instantiation of utility class.
+     */
+    private Navigator() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    /**
+     * Sets the window every screen is shown in.
+     *
+     * @param primaryStage the primary stage of the application
+     * @throws IllegalArgumentException if primaryStage is null
+     */
+    public static void init(Stage primaryStage) {
+        if (primaryStage == null) {
+            throw new IllegalArgumentException("Stage cannot be null");
+        }
+        stage = primaryStage;
+    }
+
+    /**
+     * Shows a screen, loading it the first time and resetting it afterwards.
+     *
+     * @param screen the screen to show
+     * @param <C> the type of the controller of the screen
+     * @return the controller of the screen
+     * @throws IOException if the screen has to be loaded and its FXML cannot be
+     * @throws IllegalStateException if {@link #init(Stage)} has not been called
+     */
+    @SuppressWarnings("unchecked")
+    public static <C> C show(Screen screen) throws IOException {
+        if (stage == null) {
+            throw new IllegalStateException("Navigator has not been initialized");
+        }
+        Scene scene = SCENES.get(screen);
+        if (scene == null) {
+            FXMLLoader loader = SceneCache.load(screen.getFxml());
+            scene = new Scene(loader.getRoot());
+            SCENES.put(screen, scene);
+            CONTROLLERS.put(screen, loader.getController());
+        } else if (screen != current && CONTROLLERS.get(screen) instanceof Navigable) {
+            ((Navigable) CONTROLLERS.get(screen)).reset();
+        }
+
+        if (current != null && current != screen && CONTROLLERS.get(current) instanceof Navigable) {
+            ((Navigable) CONTROLLERS.get(current)).leave();
+        }
+        current = screen;
+
+        stage.setTitle(screen.getTitle());
+        stage.setScene(scene);
+        stage.sizeToScene();
+        if (!stage.isShowing()) {
+            stage.show();
+        }
+        return (C) CONTROLLERS.get(screen);
+    }
+
+    /**
+     * Builds a screen ahead of time, while the application thread is idle.
+     *
+     * @param screen the screen to build
+     */
+    public static void prefetch(Screen screen) {
+        if (!SCENES.containsKey(screen)) {
+            SceneCache.prefetch(screen.getFxml());
+        }
+    }
+
+    /**
+     * Gets the screen being shown.
+     *
+     * @return the current screen, or null before the first one
+     */
+    public static Screen getCurrent() {
+        return current;
+    }
+}
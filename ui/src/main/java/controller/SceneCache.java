@@ -0,0 +1,94 @@
+package controller;
+
+import controller.events.SceneLoadEvent;
+import javafx.application.Platform;
+import javafx.fxml.FXMLLoader;
+import model.events.Recording;
+import model.logging.Log;
+
+import java.io.IOException;
+import java.lang.System.Logger.Level;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Loads FXML scenes, optionally ahead of time.
+ *
+ * <p>{@link #prefetch(String)} loads a scene while the application thread
+ * is idle and keeps it until {@link #load(String)} asks for it, so the
+ * next screen is already built when the user moves to it. A prefetched
+ * scene is handed out only once, since its controller holds the state of
+ * one visit; later loads build a fresh scene. All methods must be called
+ * on the JavaFX application thread.</p>
+ *
+ * @author Battle Naval Fury Team
+ * @version 1.0
+ * @since 1.0
+ */
+public final class SceneCache {
+
+    /** Logger of this class */
+    private static final System.Logger LOGGER = Log.getLogger(SceneCache.class);
+
+    /** Prefetched scenes by FXML path, with their controllers */
+    private static final Map<String, FXMLLoader> PREFETCHED = new HashMap<>();
+
+    /**
+     * Private constructor to prevent instantiation of utility class.
+     */
+    private SceneCache() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    /**
+     * Gets a loaded scene, taking the prefetched one if there is one.
+     *
+     * @param fxml the resource path of the FXML file
+     * @return the loader holding the root and the controller of the scene
+     * @throws IOException if the FXML cannot be loaded
+     */
+    public static FXMLLoader load(String fxml) throws IOException {
+        FXMLLoader loader = PREFETCHED.remove(fxml);
+        if (loader != null) {
+            LOGGER.log(Level.DEBUG, () -> "Escena precargada: " + fxml);
+            return loader;
+        }
+        return loadNow(fxml);
+    }
+
+    /**
+     * Loads a scene the next time the application thread is idle, unless
+     * one is already waiting.
+     *
+     * @param fxml the resource path of the FXML file
+     */
+    public static void prefetch(String fxml) {
+        Platform.runLater(() -> {
+            if (PREFETCHED.containsKey(fxml)) {
+                return;
+            }
+            try {
+                PREFETCHED.put(fxml, loadNow(fxml));
+            } catch (IOException e) {
+                LOGGER.log(Level.WARNING, () -> "Error precargando " + fxml + ": " + e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * Loads a scene right away.
+     */
+    private static FXMLLoader loadNow(String fxml) throws IOException {
+        SceneLoadEvent loadEvent = Recording.isActive() ? new SceneLoadEvent() : null;
+        if (loadEvent != null) {
+            loadEvent.begin();
+        }
+        FXMLLoader loader = new FXMLLoader(SceneCache.class.getResource(fxml));
+        loader.load();
+        if (loadEvent != null && loadEvent.shouldCommit()) {
+            loadEvent.fxml = fxml;
+            loadEvent.commit();
+        }
+        return loader;
+    }
+}
@@ -1,18 +1,18 @@
 package controller;
 
 import javafx.fxml.FXML;
-import javafx.fxml.FXMLLoader;
-import javafx.scene.Parent;
-import javafx.scene.Scene;
 import javafx.scene.control.Button;
 import javafx.scene.control.Label;
 import javafx.scene.control.RadioButton;
 import javafx.scene.control.ToggleGroup;
 import javafx.scene.layout.GridPane;
-import javafx.stage.Stage;
+import view.BoardView;
+import view.CellStyle;
 import model.*;
+import model.metrics.Metrics;
 
 import java.io.IOException;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -27,9 +27,9 @@ import java.util.Map;
  * @since 2025
  */
 
-public class ShipPlacementController {
-    /** Grid where ships are placed by the player */
-    @FXML private GridPane placementGrid;
+public class ShipPlacementController implements Navigable {
+    /** Board where ships are placed by the player */
+    @FXML private BoardView placementBoard;
 
     /** Small grid showing preview of selected ship */
     @FXML private GridPane previewGrid;
@@ -49,18 +49,24 @@ public class ShipPlacementController {
     /** Control buttons for various actions */
     @FXML private Button clearBoardButton, randomPlacementButton, startGameButton, backButton;
 
+    /** Buttons that undo and redo the last ship placement */
+    @FXML private Button undoButton, redoButton;
+
     /** Toggle groups for mutually exclusive radio button selections */
     @FXML private ToggleGroup shipTypeGroup, orientationGroup;
 
-    /** Matrix of buttons representing the placement board cells */
-    private Button[][] gridButtons;
-
     /** Matrix of buttons for the ship preview display */
     private Button[][] previewButtons;
 
     /** The player's board where ships will be placed */
     private Board playerBoard;
 
+    /** Placement validity per ship type and orientation, cleared when the board changes */
+    private final boolean[][] placementValidity = new boolean[ShipType.values().length * 2][];
+
+    /** Cell under the mouse on the placement board, or -1 */
+    private int hoveredRow = -1, hoveredCol = -1;
+
     /** Map tracking remaining ships of each type */
     private Map<ShipType, Integer> shipCounts;
 
@@ -73,7 +79,7 @@ public class ShipPlacementController {
     public void initialize() {
         initializeBoard();
         initializeShipCounts();
-        createGridButtons();
+        setUpPlacementBoard();
         createPreviewButtons();
         updateUI();
 
@@ -87,11 +93,24 @@ public class ShipPlacementController {
         updatePreview();
         updateStartButtonState();
     }
+    /**
+     * Starts a new placement when the screen is shown again:
+     * empty board, full fleet and the default selection.
+     */
+    @Override
+    public void reset() {
+        clearBoard();
+        horizontalRadio.setSelected(true);
+        statusLabel.setText("Selecciona un barco y haz clic en el tablero");
+    }
     /**
      * Initializes an empty player board.
+     * Any change to the board invalidates the cached placement validity.
      */
     private void initializeBoard() {
         playerBoard = new Board();
+        Arrays.fill(placementValidity, null);
+        playerBoard.addListener((row, col, state) -> Arrays.fill(placementValidity, null));
     }
     /**
      * Initializes the ship count map with the standard fleet configuration.
@@ -105,31 +124,14 @@ public class ShipPlacementController {
         shipCounts.put(ShipType.FRIGATE, 4);
     }
     /**
-     * Creates the button matrix for the main placement grid.
-     * Sets up event handlers for clicking, mouse enter, and mouse exit events
-     * to handle ship placement and preview functionality.
+     * Connects the placement board to the click and hover handlers
+     * that place ships and show the placement preview.
      */
-    private void createGridButtons() {
-        gridButtons = new Button[Board.SIZE][Board.SIZE];
-        placementGrid.getChildren().clear();
-
-        for (int row = 0; row < Board.SIZE; row++) {
-            for (int col = 0; col < Board.SIZE; col++) {
-                Button button = new Button();
-                button.setPrefSize(50, 50);
-                button.setStyle("-fx-background-color: lightcyan; -fx-border-color: navy; -fx-border-width: 1;");
-
-                final int finalRow = row;
-                final int finalCol = col;
-
-                button.setOnAction(e -> handleCellClick(finalRow, finalCol));
-                button.setOnMouseEntered(e -> showPlacementPreview(finalRow, finalCol, true));
-                button.setOnMouseExited(e -> showPlacementPreview(finalRow, finalCol, false));
-
-                gridButtons[row][col] = button;
-                placementGrid.add(button, col, row);
-            }
-        }
+    private void setUpPlacementBoard() {
+        placementBoard.setOnCellClicked(this::handleCellClick);
+        placementBoard.setOnCellHovered(this::showPlacementPreview);
+        placementBoard.render();
+        placementBoard.attach(playerBoard, true);
     }
     /**
      * Creates the button matrix for the ship preview grid.
@@ -144,7 +146,7 @@ public class ShipPlacementController {
             for (int col = 0; col < 5; col++) {
                 Button button = new Button();
                 button.setPrefSize(18, 20);
-                button.setStyle("-fx-background-color: lightgray; -fx-border-color: black; -fx-border-width: 0.5;");
+                CellStyle.install(button);
                 button.setDisable(true);
 
                 previewButtons[row][col] = button;
@@ -175,15 +177,16 @@ public class ShipPlacementController {
         Orientation orientation = horizontalRadio.isSelected() ?
                 Orientation.HORIZONTAL : Orientation.VERTICAL;
 
-        Ship ship = createShip(selectedType);
-        if (ship == null) return;
+        Ship ship = selectedType.createShip();
+        if (!Coordinate.isValid(row, col)) return;
 
+        Coordinate start = Coordinate.of(row, col);
         try {
-            if (playerBoard.canPlaceShip(ship, row, col, orientation)) {
-                playerBoard.placeShip(ship, row, col, orientation);
+            if (playerBoard.canPlaceShip(ship, start, orientation)) {
+                playerBoard.placeShip(ship, start, orientation);
                 shipCounts.put(selectedType, shipCounts.get(selectedType) - 1);
 
-                updateBoardDisplay();
+                // The board reports the ship's cells, which repaints them
                 updateUI();
                 statusLabel.setText("¡Barco colocado correctamente!");
 
@@ -201,68 +204,69 @@ public class ShipPlacementController {
      * Displays a visual preview of where the ship would be placed,
      * using green color for valid positions and red for invalid ones.
      *
-     * @param row The row being hovered over
-     * @param col The column being hovered over
-     * @param show Whether to show (true) or hide (false) the preview
+     * <p>Validity comes from {@link #getPlacementValidity(ShipType, Orientation)},
+     * so hovering never allocates ships or scans the board, and the board
+     * view only repaints the cells of the old and new preview.</p>
+     *
+     * @param row The row being hovered over, or -1 when the mouse left the board
+     * @param col The column being hovered over, or -1 when the mouse left the board
      */
-    private void showPlacementPreview(int row, int col, boolean show) {
+    private void showPlacementPreview(int row, int col) {
+        hoveredRow = row;
+        hoveredCol = col;
+
         ShipType selectedType = getSelectedShipType();
-        if (selectedType == null) return;
+        if (row < 0 || col < 0 || selectedType == null) {
+            placementBoard.clearPreview();
+            return;
+        }
 
         Orientation orientation = horizontalRadio.isSelected() ?
                 Orientation.HORIZONTAL : Orientation.VERTICAL;
-
-        Ship ship = createShip(selectedType);
-        if (ship == null) return;
-
-        updateBoardDisplay();
-
-        if (!show) return;
-
-        try {
-            if (playerBoard.canPlaceShip(ship, row, col, orientation)) {
-                for (int i = 0; i < ship.getSize(); i++) {
-                    int previewRow = orientation == Orientation.HORIZONTAL ? row : row + i;
-                    int previewCol = orientation == Orientation.HORIZONTAL ? col + i : col;
-
-                    if (previewRow < Board.SIZE && previewCol < Board.SIZE) {
-                        gridButtons[previewRow][previewCol].setStyle(
-                                "-fx-background-color: lightgreen; -fx-border-color: darkgreen; -fx-border-width: 2;"
-                        );
-                    }
-                }
-            } else {
-                for (int i = 0; i < ship.getSize(); i++) {
-                    int previewRow = orientation == Orientation.HORIZONTAL ? row : row + i;
-                    int previewCol = orientation == Orientation.HORIZONTAL ? col + i : col;
-
-                    if (previewRow < Board.SIZE && previewCol < Board.SIZE) {
-                        gridButtons[previewRow][previewCol].setStyle(
-                                "-fx-background-color: lightcoral; -fx-border-color: darkred; -fx-border-width: 2;"
-                        );
-                    }
+        boolean valid = getPlacementValidity(selectedType, orientation)[row * Board.SIZE + col];
+        placementBoard.showPreview(row, col, selectedType.getSize(), orientation, valid);
+    }
+    /**
+     * Gets, for every cell, whether a ship of the given type and orientation
+     * can start there.
+     *
+     * <p>The table is computed once per type and orientation and kept until
+     * the board changes.</p>
+     *
+     * @param type The ship type
+     * @param orientation The ship orientation
+     * @return The validity of each cell, indexed by {@code row * Board.SIZE + col}
+     */
+    private boolean[] getPlacementValidity(ShipType type, Orientation orientation) {
+        int key = type.ordinal() * 2 + (orientation == Orientation.HORIZONTAL ? 0 : 1);
+        boolean[] validity = placementValidity[key];
+        if (validity == null) {
+            validity = new boolean[Board.SIZE * Board.SIZE];
+            for (int row = 0; row < Board.SIZE; row++) {
+                for (int col = 0; col < Board.SIZE; col++) {
+                    validity[row * Board.SIZE + col] = playerBoard.canPlaceShip(type.getSize(), row, col, orientation);
                 }
             }
-        } catch (Exception e) {
-            // Silenciar excepciones de vista previa
+            placementValidity[key] = validity;
         }
+        return validity;
     }
     /**
      * Updates the ship preview display in the small preview grid.
-     * Shows how the currently selected ship would look with the chosen orientation.
+     * Shows how the currently selected ship would look with the chosen orientation,
+     * and refreshes the placement preview under the mouse.
      */
     private void updatePreview() {
         for (int row = 0; row < 5; row++) {
             for (int col = 0; col < 5; col++) {
-                previewButtons[row][col].setStyle("-fx-background-color: lightgray; -fx-border-color: black; -fx-border-width: 0.5;");
+                CellStyle.apply(previewButtons[row][col], BoardView.Mark.EMPTY);
             }
         }
 
         ShipType selectedType = getSelectedShipType();
         if (selectedType == null) return;
 
-        Ship ship = createShip(selectedType);
-        if (ship == null) return;
+        Ship ship = selectedType.createShip();
 
         Orientation orientation = horizontalRadio.isSelected() ?
                 Orientation.HORIZONTAL : Orientation.VERTICAL;
@@ -281,30 +285,11 @@ public class ShipPlacementController {
             int previewCol = orientation == Orientation.HORIZONTAL ? startCol + i : startCol;
 
             if (previewRow < 5 && previewCol < 5) {
-                previewButtons[previewRow][previewCol].setStyle(
-                        "-fx-background-color: darkblue; -fx-border-color: white; -fx-border-width: 1;"
-                );
-            }
-        }
-    }
-    /**
-     * Updates the visual display of the main placement board.
-     * Shows placed ships in blue and empty cells in light cyan.
-     */
-    private void updateBoardDisplay() {
-        for (int row = 0; row < Board.SIZE; row++) {
-            for (int col = 0; col < Board.SIZE; col++) {
-                Button button = gridButtons[row][col];
-
-                if (playerBoard.hasShip(row, col)) {
-                    button.setStyle("-fx-background-color: darkblue; -fx-border-color: white; -fx-border-width: 2;");
-                    button.setText("■");
-                } else {
-                    button.setStyle("-fx-background-color: lightcyan; -fx-border-color: navy; -fx-border-width: 1;");
-                    button.setText("");
-                }
+                CellStyle.apply(previewButtons[previewRow][previewCol], BoardView.Mark.SHIP);
             }
         }
+
+        showPlacementPreview(hoveredRow, hoveredCol);
     }
     /**
      * Updates the user interface elements showing ship counts and availability.
@@ -344,6 +329,8 @@ public class ShipPlacementController {
     private void updateStartButtonState() {
         boolean allShipsPlaced = shipCounts.values().stream().allMatch(count -> count == 0);
         startGameButton.setDisable(!allShipsPlaced);
+        undoButton.setDisable(!playerBoard.canUndoPlacement());
+        redoButton.setDisable(!playerBoard.canRedoPlacement());
 
         if (allShipsPlaced) {
             statusLabel.setText("¡Todos los barcos colocados! Puedes iniciar el juego.");
@@ -361,21 +348,6 @@ public class ShipPlacementController {
         if (frigateRadio.isSelected()) return ShipType.FRIGATE;
         return null;
     }
-    /**
-     * Creates a ship instance based on the specified type.
-     *
-     * @param type The type of ship to create
-     * @return A new ship instance, or null if the type is invalid
-     */
-    private Ship createShip(ShipType type) {
-        switch (type) {
-            case AIRCRAFT_CARRIER: return new AircraftCarrier();
-            case SUBMARINE: return new Submarine();
-            case DESTROYER: return new Destroyer();
-            case FRIGATE: return new Frigate();
-            default: return null;
-        }
-    }
     /**
      * Places all ships randomly on the board.
      * FXML event handler for the random placement button.
@@ -383,9 +355,9 @@ public class ShipPlacementController {
      */
     @FXML
     private void clearBoard() {
-        playerBoard = new Board();
+        initializeBoard();
         initializeShipCounts();
-        updateBoardDisplay();
+        placementBoard.attach(playerBoard, true);
         updateUI();
         updateStartButtonState();
         aircraftCarrierRadio.setSelected(true);
@@ -393,6 +365,36 @@ public class ShipPlacementController {
         statusLabel.setText("Tablero limpiado. Comienza a colocar tus barcos.");
     }
 
+    /**
+     * Takes back the last placed ship.
+     * FXML event handler for the undo button.
+     * The board reports only the cells of that ship, so the rest of the view is not repainted.
+     */
+    @FXML
+    private void undoPlacement() {
+        Ship ship = playerBoard.undoPlacement();
+        if (ship == null) return;
+
+        shipCounts.put(ship.getType(), shipCounts.get(ship.getType()) + 1);
+        updateUI();
+        updateStartButtonState();
+        statusLabel.setText("Colocación deshecha: " + ship.getType().getDisplayName());
+    }
+    /**
+     * Places again the last ship taken back with undo.
+     * FXML event handler for the redo button.
+     */
+    @FXML
+    private void redoPlacement() {
+        Ship ship = playerBoard.redoPlacement();
+        if (ship == null) return;
+
+        shipCounts.put(ship.getType(), shipCounts.get(ship.getType()) - 1);
+        updateUI();
+        statusLabel.setText("Colocación rehecha: " + ship.getType().getDisplayName());
+        updateStartButtonState();
+    }
+
     @FXML
     private void randomPlacement() {
         clearBoard();
@@ -400,14 +402,10 @@ public class ShipPlacementController {
         java.util.Random random = new java.util.Random();
 
         for (ShipType type : Game.FLEET_CONFIGURATION) {
-            Ship ship = createShip(type);
-            if (ship != null) {
-                placeShipRandomly(ship, playerBoard, random);
-                shipCounts.put(type, shipCounts.get(type) - 1);
-            }
+            placeShipRandomly(type.createShip(), playerBoard, random);
+            shipCounts.put(type, shipCounts.get(type) - 1);
         }
 
-        updateBoardDisplay();
         updateUI();
         updateStartButtonState();
         statusLabel.setText("¡Barcos colocados aleatoriamente!");
@@ -426,14 +424,14 @@ public class ShipPlacementController {
         int maxAttempts = 1000;
 
         while (attempts < maxAttempts) {
-            int row = random.nextInt(Board.SIZE);
-            int col = random.nextInt(Board.SIZE);
+            Coordinate start = Coordinate.of(random.nextInt(Board.SIZE), random.nextInt(Board.SIZE));
             Orientation orientation = random.nextBoolean() ?
                     Orientation.HORIZONTAL : Orientation.VERTICAL;
+            Metrics.PLACEMENT_ATTEMPTS.increment();
 
             try {
-                if (board.canPlaceShip(ship, row, col, orientation)) {
-                    board.placeShip(ship, row, col, orientation);
+                if (board.canPlaceShip(ship, start, orientation)) {
+                    board.placeShip(ship, start, orientation);
                     return true;
                 }
             } catch (Exception e) {
@@ -446,26 +444,13 @@ public class ShipPlacementController {
     /**
      * Starts the main game with the configured ship placement.
      * FXML event handler for the start game button.
-     * Loads the main game stage and passes the configured board.
+     * Shows the game screen and passes the configured board.
      */
     @FXML
     private void startGame() {
         try {
-            FXMLLoader loader = new FXMLLoader(getClass().getResource("/view/stage.fxml"));
-            Parent root = loader.load();
-
-            StageController stageController = loader.getController();
+            StageController stageController = Navigator.show(Navigator.Screen.GAME);
             stageController.initializeWithPlayerBoard(playerBoard);
-
-            Stage newStage = new Stage();
-            newStage.setTitle("Naval Battle - Juego");
-            newStage.setScene(new Scene(root));
-            newStage.setResizable(false);
-            newStage.show();
-
-            Stage currentStage = (Stage) startGameButton.getScene().getWindow();
-            currentStage.close();
-
         } catch (IOException ex) {
             ex.printStackTrace();
             statusLabel.setText("Error al iniciar el juego");
@@ -474,22 +459,12 @@ public class ShipPlacementController {
     /**
      * Returns to the main menu.
      * FXML event handler for the back button.
-     * Closes the current stage and opens the main menu.
+     * Shows the main menu again.
      */
     @FXML
     private void goBack() {
         try {
-            FXMLLoader loader = new FXMLLoader(getClass().getResource("/view/inicio.fxml"));
-            Parent root = loader.load();
-            Stage newStage = new Stage();
-            newStage.setTitle("Naval Battle");
-            newStage.setScene(new Scene(root));
-            newStage.setResizable(false);
-            newStage.show();
-
-            Stage currentStage = (Stage) backButton.getScene().getWindow();
-            currentStage.close();
-
+            Navigator.show(Navigator.Screen.MENU);
         } catch (IOException ex) {
             ex.printStackTrace();
         }
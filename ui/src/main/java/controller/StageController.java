@@ -0,0 +1,418 @@
+package controller;
+
+import javafx.fxml.FXML;
+import javafx.scene.control.Button;
+import javafx.scene.control.Label;
+import javafx.scene.layout.GridPane;
+import javafx.scene.Node;
+import javafx.stage.WindowEvent;
+import view.BoardView;
+import view.CellStyle;
+import model.*;
+import controller.events.BoardCopyEvent;
+import model.events.Recording;
+import model.exceptions.CellAlreadyShotException;
+import model.exceptions.InvalidShipPlacementException;
+import model.metrics.Metrics;
+import model.metrics.Timer;
+import model.logging.Log;
+
+import java.io.IOException;
+
+import java.lang.System.Logger.Level;
+
+/**
+ * Main controller for the naval battle game.
+ * Handles the game board GUI, player turns,
+ * shot visualization and overall game state.
+ *
+ * @author [Your name]
+ * @version 1.0
+ * @since 2024
+ */
+public class StageController implements Navigable {
+
+    /** Logger of this class */
+    private static final System.Logger LOGGER = Log.getLogger(StageController.class);
+
+    /** Board view that displays the human player's board */
+    @FXML private BoardView gameBoard;
+
+    /** Grid that displays opponent (machine) information */
+    @FXML private GridPane opponentGrid;
+
+    /** Label that shows the current game status */
+    @FXML private Label statusLabel;
+
+    /** Label to show opponent information */
+    @FXML private Label opponentLabel;
+
+    /** Label to control opponent board visualization */
+    @FXML private Label showOpponentLabel;
+
+    /** Button to show/hide opponent board */
+    @FXML private Button showOpponentButton;
+
+    /** Game instance that contains all the logic */
+    private Game game;
+
+    /** Button matrix representing the opponent's board cells */
+    private Button[][] opponentButtons;
+
+    /** Indicates if the opponent board is being shown */
+    private boolean showingOpponentBoard = false;
+
+    /** Machine turns of this window, paced by the shared scheduler */
+    private TurnScheduler.Session turns =
+            TurnScheduler.getDefault().openSession(TurnScheduler.getConfiguredSpeed());
+
+    /** Runs shots and autosaves off the application thread */
+    private final EngineExecutor engine = EngineExecutor.getDefault();
+
+    /** Whether a shot is being processed by the engine; the game must not be read meanwhile */
+    private boolean engineBusy = false;
+
+    /**
+     * Initializes the controller and its components.
+     * Executed automatically after loading the FXML.
+     */
+    @FXML
+    public void initialize() {
+        LOGGER.log(Level.DEBUG, "board view loaded");
+        // The game is created by initializeWithPlayerBoard once the fleet is placed
+        setUpGameBoard();
+        createOpponentGridButtons();
+        cancelTurnsOnClose();
+    }
+
+    /**
+     * Prepares the screen for a new round when it is shown again. Results
+     * of the previous game still in flight are ignored.
+     */
+    @Override
+    public void reset() {
+        turns = TurnScheduler.getDefault().openSession(turns.getSpeed());
+        engineBusy = false;
+        game = null;
+        gameBoard.clear();
+        gameBoard.setDisable(false);
+        showingOpponentBoard = false;
+        if (showOpponentButton != null) {
+            showOpponentButton.setText("Show opponent board");
+        }
+        updateStatusLabel("Preparando juego...");
+    }
+
+    /**
+     * Cancels the pending machine turns when another screen is shown.
+     */
+    @Override
+    public void leave() {
+        turns.close();
+    }
+
+    /**
+     * Cancels the pending machine turns once the window showing the board is closed.
+     */
+    private void cancelTurnsOnClose() {
+        gameBoard.sceneProperty().addListener((sceneObs, oldScene, scene) -> {
+            if (scene == null) return;
+            scene.windowProperty().addListener((windowObs, oldWindow, window) -> {
+                if (window != null) {
+                    window.addEventHandler(WindowEvent.WINDOW_HIDDEN, event -> turns.close());
+                }
+            });
+        });
+    }
+
+    /**
+     * Gets the pace of the machine turns.
+     *
+     * @return the current speed
+     */
+    public TurnScheduler.Speed getTurnSpeed() {
+        return turns.getSpeed();
+    }
+
+    /**
+     * Sets the pace of the machine turns, for example {@link TurnScheduler.Speed#TURBO}
+     * to let the machine answer with no delay.
+     *
+     * @param speed the new speed
+     */
+    public void setTurnSpeed(TurnScheduler.Speed speed) {
+        turns.setSpeed(speed);
+    }
+
+    /**
+     * Initializes the game with a pre-configured board from the ship placement controller.
+     * This method is called when the player comes from the ship placement screen.
+     *
+     * @param playerBoard The board already configured with the player's ships
+     */
+    public void initializeWithPlayerBoard(Board playerBoard) {
+        this.game = new Game("Player");
+
+        // Copy the configured board to the player
+        HumanPlayer human = game.getHumanPlayer();
+        copyBoard(playerBoard, human.getBoard());
+
+        // Start the game
+        if (game.allHumanShipsPlaced()) {
+            game.startGamePlay();
+        }
+
+        updatePlayerBoardDisplay();
+        updateStatusLabel();
+    }
+
+    /**
+     * Copies the fleet from one board to another.
+     * Used to transfer the player's ship configuration
+     * from the placement screen to the main game.
+     *
+     * @param source The source board to copy from
+     * @param destination The destination board to copy to
+     */
+    private void copyBoard(Board source, Board destination) {
+        BoardCopyEvent event = Recording.isActive() ? new BoardCopyEvent() : null;
+        if (event != null) {
+            event.begin();
+        }
+        try {
+            source.snapshot().copyFleetTo(destination);
+        } catch (InvalidShipPlacementException e) {
+            LOGGER.log(Level.WARNING, () -> "Error copying ship: " + e.getMessage());
+        }
+        if (event != null && event.shouldCommit()) {
+            event.shipsCopied = destination.getShips().size();
+            event.commit();
+        }
+    }
+
+    /**
+     * Updates the player's board visualization in the GUI.
+     * Shows the player's ships and empty water; later shots are shown from
+     * their outcomes, since the engine thread owns the board from then on.
+     */
+    private void updatePlayerBoardDisplay() {
+        if (game == null || gameBoard == null) return;
+        long start = Timer.start();
+
+        gameBoard.showBoard(game.getHumanPlayer().getBoard(), true);
+        Metrics.UI_REFRESH.stop(start);
+    }
+
+    /**
+     * Connects the game board to the click handler that fires shots.
+     */
+    private void setUpGameBoard() {
+        gameBoard.setOnCellClicked(this::handleCellClick);
+        gameBoard.render();
+    }
+
+    /**
+     * Creates the button matrix to show opponent board information.
+     * These buttons are disabled as they are for information only.
+     */
+    private void createOpponentGridButtons() {
+        if (opponentGrid == null) return;
+
+        opponentButtons = new Button[Board.SIZE][Board.SIZE];
+        opponentGrid.getChildren().clear();
+
+        for (int row = 0; row < Board.SIZE; row++) {
+            for (int col = 0; col < Board.SIZE; col++) {
+                Button button = new Button();
+                button.setPrefSize(30, 24);
+                CellStyle.install(button, "opponent-cell");
+                button.setDisable(true);
+
+                opponentButtons[row][col] = button;
+                opponentGrid.add(button, col, row);
+            }
+        }
+    }
+
+    /**
+     * Handles the player's click on a board cell.
+     * Processes the player's shot and handles turn changes.
+     *
+     * @param row The row of the clicked cell
+     * @param col The column of the clicked cell
+     */
+    private void handleCellClick(int row, int col) {
+        if (game == null || engineBusy || game.getGameState() != GameState.PLAYER_TURN
+                || !Coordinate.isValid(row, col)) {
+            return;
+        }
+        // The shot and its autosave run on the engine thread
+        Coordinate target = Coordinate.of(row, col);
+        Game shotGame = game;
+        engineBusy = true;
+        engine.submit(() -> shotGame.playPlayerShot(target), outcome -> {
+            if (shotGame != game) return;
+            engineBusy = false;
+            if (gameBoard != null) {
+                gameBoard.showChanges(outcome, false);
+            }
+            updateOpponentDisplay();
+
+            if (outcome.getResult() == ShotResult.WATER) {
+                processMachineTurn();
+            }
+
+            updateStatusLabel();
+            checkGameOver();
+        }, error -> {
+            if (shotGame != game) return;
+            engineBusy = false;
+            if (error instanceof CellAlreadyShotException) {
+                LOGGER.log(Level.DEBUG, () -> "Cell already shot: " + error.getMessage());
+                updateStatusLabel("That cell was already shot! Choose another.");
+            } else {
+                LOGGER.log(Level.ERROR, () -> "Error processing the shot: " + error);
+            }
+        });
+    }
+
+    /**
+     * Schedules the machine's turn on the shared turn scheduler, so the
+     * interface is not blocked while the machine "thinks".
+     */
+    private void processMachineTurn() {
+        scheduleMachineShot(false);
+    }
+
+    /**
+     * Schedules the next machine shot after the delay of the current speed.
+     *
+     * @param afterHit true if the machine hit with its previous shot
+     */
+    private void scheduleMachineShot(boolean afterHit) {
+        if (game == null || game.getGameState() != GameState.MACHINE_TURN) {
+            return;
+        }
+        turns.scheduleTurn(this::playMachineShot, afterHit);
+    }
+
+    /**
+     * Plays one machine shot. The decision and the autosave run on the
+     * engine thread; only the cells the shot changed come back to the
+     * application thread. The machine keeps shooting while it hits.
+     */
+    private void playMachineShot() {
+        if (game == null || engineBusy || game.getGameState() != GameState.MACHINE_TURN) {
+            return;
+        }
+        Game shotGame = game;
+        engineBusy = true;
+        engine.submit(shotGame::playMachineShot, outcome -> {
+            if (shotGame != game) return;
+            engineBusy = false;
+            gameBoard.showChanges(outcome, true);
+
+            if (outcome.getResult() != ShotResult.WATER) {
+                scheduleMachineShot(true);
+            }
+
+            updateStatusLabel();
+            checkGameOver();
+        }, error -> {
+            if (shotGame != game) return;
+            engineBusy = false;
+            LOGGER.log(Level.ERROR, () -> "Error processing the machine shot: " + error);
+        });
+    }
+
+    /**
+     * Updates the opponent board visualization.
+     * Placeholder method for future opponent information display functionality.
+     */
+    private void updateOpponentDisplay() {
+        if (game == null || opponentButtons == null) return;
+
+        // Here you can add logic to show opponent information
+        // For example, update a grid that shows made shots
+    }
+
+    /**
+     * Updates the game status label according to the current state.
+     * Shows appropriate messages for each game phase.
+     */
+    private void updateStatusLabel() {
+        if (game == null || statusLabel == null) return;
+
+        GameState state = game.getGameState();
+        switch (state) {
+            case PLAYER_TURN:
+                statusLabel.setText("Your turn - Click on a cell to shoot");
+                break;
+            case MACHINE_TURN:
+                statusLabel.setText("Machine's turn...");
+                break;
+            case GAME_OVER_HUMAN_WINS:
+                statusLabel.setText("Congratulations! You won the naval battle");
+                break;
+            case GAME_OVER_MACHINE_WINS:
+                statusLabel.setText("The machine has won. Better luck next time!");
+                break;
+            default:
+                statusLabel.setText("Preparing the game...");
+                break;
+        }
+    }
+
+    /**
+     * Updates the status label with a custom message.
+     *
+     * @param message The message to show in the status label
+     */
+    private void updateStatusLabel(String message) {
+        if (statusLabel != null) {
+            statusLabel.setText(message);
+        }
+    }
+
+    /**
+     * Checks if the game has ended and disables controls if necessary.
+     * Blocks clicks on the board when the game ends.
+     */
+    private void checkGameOver() {
+        if (game == null) return;
+
+        GameState state = game.getGameState();
+        if (state == GameState.GAME_OVER_HUMAN_WINS || state == GameState.GAME_OVER_MACHINE_WINS) {
+            // Stop accepting clicks on the board
+            if (gameBoard != null) {
+                gameBoard.setDisable(true);
+            }
+        }
+    }
+
+    /**
+     * Returns to the main menu.
+     * FXML event handler for the back button.
+     */
+    @FXML
+    private void goBack() {
+        try {
+            Navigator.show(Navigator.Screen.MENU);
+        } catch (IOException e) {
+            LOGGER.log(Level.ERROR, () -> "Error returning to the menu: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Toggles the opponent board visualization.
+     * FXML method to handle the show/hide opponent board button.
+     */
+    @FXML
+    private void toggleOpponentBoard() {
+        showingOpponentBoard = !showingOpponentBoard;
+        if (showOpponentButton != null) {
+            showOpponentButton.setText(showingOpponentBoard ? "Hide opponent board" : "Show opponent board");
+        }
+        // Here you can add logic to show/hide opponent grid
+    }
+}
\ No newline at end of file
@@ -0,0 +1,235 @@
+package controller;
+
+import javafx.application.Platform;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Paces machine turns for every game window with one shared timer thread.
+ *
+ * <p>Each window opens a {@link Session} and schedules its machine turns
+ * through it. Delays are counted on a single daemon thread and the turn
+ * itself runs on the JavaFX application thread, so no thread is created
+ * per move. In {@link Speed#TURBO} mode turns are posted directly to the
+ * application thread without going through the timer. Closing a session
+ * cancels its pending turns, so a closed window never plays again.</p>
+ *
+ * @author Battle Naval Fury Team
+ * @version 1.0
+ * @since 1.0
+ */
+public final class TurnScheduler {
+
+    /** System property selecting the default speed */
+    public static final String SPEED_PROPERTY = "battlenaval.speed";
+
+    /**
+     * Pace of the machine turns.
+     */
+    public enum Speed {
+        /** Normal play: a second to think, half a second more after a hit */
+        NORMAL(1000, 500),
+        /** Slower pace, for watching a game */
+        SPECTATOR(2000, 1000),
+        /** No delay at all */
+        TURBO(0, 0);
+
+        /** Delay before a machine shot, in milliseconds */
+        private final long turnDelayMillis;
+
+        /** Extra delay before a shot that follows a hit, in milliseconds */
+        private final long hitPauseMillis;
+
+        Speed(long turnDelayMillis, long hitPauseMillis) {
+            this.turnDelayMillis = turnDelayMillis;
+            this.hitPauseMillis = hitPauseMillis;
+        }
+
+        /**
+         * Gets the delay before a machine shot.
+         *
+         * @return the delay in milliseconds
+         */
+        public long getTurnDelayMillis() {
+            return turnDelayMillis;
+        }
+
+        /**
+         * Gets the extra delay before a shot that follows a hit.
+         *
+         * @return the delay in milliseconds
+         */
+        public long getHitPauseMillis() {
+            return hitPauseMillis;
+        }
+    }
+
+    /** Shared scheduler */
+    private static final TurnScheduler DEFAULT = new TurnScheduler();
+
+    /** Timer thread shared by every session */
+    private final ScheduledExecutorService timer;
+
+    /**
+     * Creates a scheduler with its own daemon timer thread.
+     */
+    private TurnScheduler() {
+        this.timer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "turn-scheduler");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Gets the shared scheduler.
+     *
+     * @return the default scheduler
+     */
+    public static TurnScheduler getDefault() {
+        return DEFAULT;
+    }
+
+    /**
+     * Gets the speed given by the system property {@value #SPEED_PROPERTY}.
+     *
+     * @return the configured speed, or {@link Speed#NORMAL} if none or unknown
+     */
+    public static Speed getConfiguredSpeed() {
+        String value = System.getProperty(SPEED_PROPERTY);
+        if (value != null) {
+            try {
+                return Speed.valueOf(value.trim().toUpperCase());
+            } catch (IllegalArgumentException e) {
+                // Se usa la velocidad normal
+            }
+        }
+        return Speed.NORMAL;
+    }
+
+    /**
+     * Opens a session for one game window.
+     *
+     * @param speed the initial speed of the session
+     * @return the new session
+     */
+    public Session openSession(Speed speed) {
+        return new Session(speed);
+    }
+
+    /**
+     * The machine turns of one game window.
+     */
+    public final class Session {
+
+        /** Turns waiting on the timer, guarded by the session's lock */
+        private final Set<Future<?>> pending = new HashSet<>();
+
+        /** Current speed */
+        private volatile Speed speed;
+
+        /** Whether the session has been closed */
+        private volatile boolean closed;
+
+        private Session(Speed speed) {
+            this.speed = speed;
+        }
+
+        /**
+         * Gets the current speed.
+         *
+         * @return the speed
+         */
+        public Speed getSpeed() {
+            return speed;
+        }
+
+        /**
+         * Changes the speed of the turns scheduled from now on.
+         *
+         * @param speed the new speed
+         * @throws IllegalArgumentException if speed is null
+         */
+        public void setSpeed(Speed speed) {
+            if (speed == null) {
+                throw new IllegalArgumentException("Speed cannot be null");
+            }
+            this.speed = speed;
+        }
+
+        /**
+         * Runs a machine turn on the JavaFX application thread after the
+         * delay of the current speed.
+         *
+         * @param turn the turn to play
+         * @param afterHit true if the turn follows a hit, which adds the hit pause
+         */
+        public void scheduleTurn(Runnable turn, boolean afterHit) {
+            Speed current = speed;
+            long delay = current.getTurnDelayMillis() + (afterHit ? current.getHitPauseMillis() : 0);
+            schedule(turn, delay);
+        }
+
+        /**
+         * Runs an action on the JavaFX application thread after a delay.
+         * Nothing runs once the session is closed.
+         *
+         * @param action the action to run
+         * @param delayMillis the delay in milliseconds, 0 to run as soon as possible
+         */
+        public void schedule(Runnable action, long delayMillis) {
+            if (closed) {
+                return;
+            }
+            Runnable guarded = () -> {
+                if (!closed) {
+                    action.run();
+                }
+            };
+            if (delayMillis <= 0) {
+                Platform.runLater(guarded);
+                return;
+            }
+            // The task takes the same lock to remove itself, so it cannot
+            // run before its future has been stored and registered
+            synchronized (this) {
+                if (closed) {
+                    return;
+                }
+                Future<?>[] self = new Future<?>[1];
+                self[0] = timer.schedule(() -> {
+                    synchronized (Session.this) {
+                        pending.remove(self[0]);
+                    }
+                    Platform.runLater(guarded);
+                }, delayMillis, TimeUnit.MILLISECONDS);
+                pending.add(self[0]);
+            }
+        }
+
+        /**
+         * Cancels every pending turn and ignores any later scheduling.
+         */
+        public synchronized void close() {
+            closed = true;
+            for (Future<?> future : pending) {
+                future.cancel(false);
+            }
+            pending.clear();
+        }
+
+        /**
+         * Checks whether the session has been closed.
+         *
+         * @return true if closed
+         */
+        public boolean isClosed() {
+            return closed;
+        }
+    }
+}
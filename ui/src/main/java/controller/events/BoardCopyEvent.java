@@ -0,0 +1,28 @@
+package controller.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event covering the copy of the placement board into
+ * the board of a new game.
+ *
+ * @author Battle Naval Fury Team
+ * @version 1.0
+ * @since 1.0
+ */
+@Name("battlenaval.BoardCopy")
+@Label("Board Copy")
+@Category({"Battle Naval Fury", "UI"})
+@Description("Copy of the player's ship placement into a new game")
+@StackTrace(false)
+public class BoardCopyEvent extends Event {
+
+    /** Number of ships copied */
+    @Label("Ships Copied")
+    public int shipsCopied;
+}
@@ -0,0 +1,27 @@
+package controller.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event covering the loading of an FXML scene.
+ *
+ * @author Battle Naval Fury Team
+ * @version 1.0
+ * @since 1.0
+ */
+@Name("battlenaval.SceneLoad")
+@Label("Scene Load")
+@Category({"Battle Naval Fury", "UI"})
+@Description("Loading of an FXML scene and its controller")
+@StackTrace(false)
+public class SceneLoadEvent extends Event {
+
+    /** Resource path of the FXML file */
+    @Label("FXML")
+    public String fxml;
+}
@@ -0,0 +1,118 @@
+package view;
+
+import javafx.scene.image.Image;
+import javafx.scene.layout.Background;
+import javafx.scene.layout.BackgroundImage;
+import javafx.scene.layout.BackgroundPosition;
+import javafx.scene.layout.BackgroundRepeat;
+import javafx.scene.layout.BackgroundSize;
+import javafx.scene.layout.Region;
+import javafx.scene.text.Font;
+import model.logging.Log;
+
+import java.io.InputStream;
+import java.lang.System.Logger.Level;
+import java.util.List;
+
+/**
+ * Images and fonts shared by the screens, loaded once and ahead of time.
+ *
+ * <p>{@link #preload()} starts decoding the menu background on the JavaFX
+ * background image loader, scaled to the window size instead of its full
+ * 1536x1024 source, and registers the bundled fonts on a daemon thread.
+ * Screens then take the already decoded image through
+ * {@link #applyMenuBackground(Region)}, so showing a window never decodes
+ * a large PNG on the application thread.</p>
+ *
+ * @author Battle Naval Fury Team
+ * @version 1.0
+ * @since 1.0
+ */
+public final class Assets {
+
+    /** Logger of this class */
+    private static final System.Logger LOGGER = Log.getLogger(Assets.class);
+
+    /** Background image of the main menu */
+    public static final String MENU_BACKGROUND = "/img/fondo_3.png";
+
+    /** Width of the main menu window, which the background is decoded at */
+    private static final double MENU_WIDTH = 800;
+
+    /** Height of the main menu window, which the background is decoded at */
+    private static final double MENU_HEIGHT = 600;
+
+    /** Bundled fonts, registered once */
+    private static final List<String> FONTS = List.of(
+            "/fonts/Barbarian.ttf", "/fonts/Frohburg.ttf", "/fonts/Gothik Steel.ttf");
+
+    /** Decoded menu background, or null before the first request */
+    private static Image menuBackground;
+
+    /** Whether the fonts have been registered or are being registered */
+    private static boolean fontsRequested;
+
+    /**
+     * Private constructor to prevent instantiation of utility class.
+     */
+    private Assets() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    /**
+     * Starts loading every asset in the background. Calling it again has no effect.
+     */
+    public static synchronized void preload() {
+        getMenuBackground();
+        if (!fontsRequested) {
+            fontsRequested = true;
+            Thread thread = new Thread(Assets::registerFonts, "asset-preloader");
+            thread.setDaemon(true);
+            thread.start();
+        }
+    }
+
+    /**
+     * Gets the menu background, decoded at the size of the menu window.
+     * The image may still be loading; views show it as soon as it is ready.
+     *
+     * @return the menu background image
+     */
+    public static synchronized Image getMenuBackground() {
+        if (menuBackground == null) {
+            menuBackground = new Image(Assets.class.getResource(MENU_BACKGROUND).toExternalForm(),
+                    MENU_WIDTH, MENU_HEIGHT, false, true, true);
+        }
+        return menuBackground;
+    }
+
+    /**
+     * Shows the menu background on a region, covering all of it.
+     *
+     * @param region the root of the menu
+     */
+    public static void applyMenuBackground(Region region) {
+        BackgroundSize cover = new BackgroundSize(BackgroundSize.AUTO, BackgroundSize.AUTO,
+                false, false, false, true);
+        region.setBackground(new Background(new BackgroundImage(getMenuBackground(),
+                BackgroundRepeat.NO_REPEAT, BackgroundRepeat.NO_REPEAT, BackgroundPosition.DEFAULT, cover)));
+    }
+
+    /**
+     * Registers the bundled fonts so they can be used by family name.
+     */
+    private static void registerFonts() {
+        for (String path : FONTS) {
+            try (InputStream in = Assets.class.getResourceAsStream(path)) {
+                Font font = in != null ? Font.loadFont(in, 12) : null;
+                if (font == null) {
+                    LOGGER.log(Level.WARNING, () -> "No se pudo cargar la fuente " + path);
+                } else {
+                    LOGGER.log(Level.DEBUG, () -> "Fuente registrada: " + font.getFamily());
+                }
+            } catch (Exception e) {
+                LOGGER.log(Level.WARNING, () -> "Error cargando la fuente " + path + ": " + e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,593 @@
+package view;
+
+import javafx.beans.value.ObservableValue;
+import javafx.css.CssMetaData;
+import javafx.css.Styleable;
+import javafx.css.StyleableProperty;
+import javafx.css.StyleablePropertyFactory;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.input.MouseButton;
+import javafx.scene.input.MouseEvent;
+import javafx.scene.paint.Color;
+import javafx.scene.paint.Paint;
+import model.Board;
+import model.BoardListener;
+import model.CellState;
+import model.Coordinate;
+import model.Orientation;
+import model.ShotOutcome;
+import model.metrics.Metrics;
+import model.metrics.Timer;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Draws a game board on a single {@link Canvas}.
+ *
+ * <p>The view keeps one {@link Mark} per cell and paints it directly, so a
+ * board costs one scene-graph node whatever its size, and changing a cell
+ * repaints only that cell's rectangle. Clicks and mouse movement are
+ * converted to cell coordinates and forwarded to the registered
+ * {@link CellListener}s. A ship placement preview can be laid over the
+ * marks with {@link #showPreview(int, int, int, Orientation, boolean)}.</p>
+ *
+ * <p>Colors come from CSS through the {@value #STYLE_CLASS} style class:
+ * {@code -bnf-<mark>-fill} for each {@link Mark} (for example
+ * {@code -bnf-preview-valid-fill}), {@code -bnf-grid-color} and
+ * {@code -bnf-symbol-color}.</p>
+ *
+ * <p>The board size is {@link Board#SIZE} by default. The cell size
+ * follows the canvas size, which can be set from FXML:</p>
+ * <pre>
+ *     &lt;BoardView fx:id="gameBoard" width="500" height="500" /&gt;
+ * </pre>
+ *
+ * @author Battle Naval Fury Team
+ * @version 1.0
+ * @since 1.0
+ */
+public class BoardView extends Canvas {
+
+    /**
+     * What a cell shows.
+     */
+    public enum Mark {
+        /** Untouched water */
+        EMPTY,
+        /** Part of a ship that has not been hit */
+        SHIP,
+        /** Part of a ship that has been hit */
+        HIT,
+        /** Part of a sunk ship */
+        SUNK,
+        /** A shot that fell into the water */
+        WATER,
+        /** Cell of a ship that can be placed where the mouse is */
+        PREVIEW_VALID,
+        /** Cell of a ship that cannot be placed where the mouse is */
+        PREVIEW_INVALID
+    }
+
+    /**
+     * Receives the coordinates of a cell under the mouse.
+     */
+    @FunctionalInterface
+    public interface CellListener {
+
+        /**
+         * Called with the coordinates of a cell.
+         *
+         * @param row the row of the cell, or -1 when the mouse left the board
+         * @param col the column of the cell, or -1 when the mouse left the board
+         */
+        void cellEvent(int row, int col);
+    }
+
+    /** Style class of every board view */
+    public static final String STYLE_CLASS = "board-view";
+
+    /** Default fill per mark, indexed by ordinal, used until CSS is applied */
+    private static final Color[] DEFAULT_FILLS = {
+            Color.LIGHTCYAN, Color.DARKBLUE, Color.ORANGE, Color.DARKRED,
+            Color.LIGHTBLUE, Color.LIGHTGREEN, Color.LIGHTCORAL
+    };
+
+    /** Factory of the CSS properties of the view */
+    private static final StyleablePropertyFactory<BoardView> CSS =
+            new StyleablePropertyFactory<>(Canvas.getClassCssMetaData());
+
+    /** Fill per mark, set from {@code -bnf-<mark>-fill} in CSS */
+    private final StyleableProperty<Paint>[] fills;
+
+    /** Color of the grid lines, set from {@code -bnf-grid-color} */
+    private final StyleableProperty<Paint> gridColor;
+
+    /** Color of the hit symbols, set from {@code -bnf-symbol-color} */
+    private final StyleableProperty<Paint> symbolColor;
+
+    /** Number of rows */
+    private final int rows;
+
+    /** Number of columns */
+    private final int cols;
+
+    /** Mark of every cell, row by row */
+    private final Mark[] marks;
+
+    /** Listener of clicks on cells */
+    private CellListener onCellClicked;
+
+    /** Listener of the mouse moving to another cell */
+    private CellListener onCellHovered;
+
+    /** Index of the cell under the mouse, or -1 */
+    private int hoveredIndex = -1;
+
+    /** Row of the first cell of the placement preview, or -1 if hidden */
+    private int previewRow = -1;
+
+    /** Column of the first cell of the placement preview */
+    private int previewCol;
+
+    /** Number of cells of the placement preview */
+    private int previewLength;
+
+    /** Whether the placement preview extends to the right or downwards */
+    private boolean previewHorizontal;
+
+    /** Whether the previewed placement is valid */
+    private boolean previewValid;
+
+    /** Board followed through its change events, or null */
+    private Board attachedBoard;
+
+    /** Listener registered on {@link #attachedBoard} */
+    private BoardListener boardListener;
+
+    /**
+     * Creates a view of a {@link Board#SIZE} board with no size yet.
+     */
+    public BoardView() {
+        this(Board.SIZE, Board.SIZE);
+    }
+
+    /**
+     * Creates a view of a board of any size.
+     *
+     * @param rows the number of rows
+     * @param cols the number of columns
+     * @throws IllegalArgumentException if a dimension is not positive
+     */
+    public BoardView(int rows, int cols) {
+        if (rows <= 0 || cols <= 0) {
+            throw new IllegalArgumentException("Board dimensions must be positive");
+        }
+        this.rows = rows;
+        this.cols = cols;
+        this.marks = new Mark[rows * cols];
+        Arrays.fill(marks, Mark.EMPTY);
+
+        getStyleClass().add(STYLE_CLASS);
+        this.fills = createFills();
+        this.gridColor = CSS.createStyleablePaintProperty(this, "gridColor", "-bnf-grid-color",
+                view -> view.gridColor, Color.NAVY);
+        this.symbolColor = CSS.createStyleablePaintProperty(this, "symbolColor", "-bnf-symbol-color",
+                view -> view.symbolColor, Color.WHITE);
+        for (StyleableProperty<Paint> fill : fills) {
+            repaintOnChange(fill);
+        }
+        repaintOnChange(gridColor);
+        repaintOnChange(symbolColor);
+
+        widthProperty().addListener((obs, oldValue, newValue) -> render());
+        heightProperty().addListener((obs, oldValue, newValue) -> render());
+        addEventHandler(MouseEvent.MOUSE_CLICKED, this::handleClick);
+        addEventHandler(MouseEvent.MOUSE_MOVED, this::handleMove);
+        addEventHandler(MouseEvent.MOUSE_EXITED, event -> hover(-1));
+    }
+
+    /**
+     * Gets the number of rows.
+     *
+     * @return the row count
+     */
+    public int getRows() {
+        return rows;
+    }
+
+    /**
+     * Gets the number of columns.
+     *
+     * @return the column count
+     */
+    public int getCols() {
+        return cols;
+    }
+
+    /**
+     * Sets the listener called when a cell is clicked.
+     *
+     * @param listener the listener, or null to remove it
+     */
+    public void setOnCellClicked(CellListener listener) {
+        this.onCellClicked = listener;
+    }
+
+    /**
+     * Sets the listener called when the mouse moves to another cell or
+     * leaves the board.
+     *
+     * @param listener the listener, or null to remove it
+     */
+    public void setOnCellHovered(CellListener listener) {
+        this.onCellHovered = listener;
+    }
+
+    /**
+     * Gets the mark of a cell.
+     *
+     * @param row the row of the cell
+     * @param col the column of the cell
+     * @return the current mark
+     * @throws IndexOutOfBoundsException if the cell is outside the board
+     */
+    public Mark getMark(int row, int col) {
+        return marks[indexOf(row, col)];
+    }
+
+    /**
+     * Changes the mark of a cell and repaints that cell only.
+     *
+     * @param row the row of the cell
+     * @param col the column of the cell
+     * @param mark the new mark
+     * @throws IndexOutOfBoundsException if the cell is outside the board
+     */
+    public void setMark(int row, int col, Mark mark) {
+        int index = indexOf(row, col);
+        if (marks[index] != mark) {
+            marks[index] = mark;
+            paintCell(getGraphicsContext2D(), row, col);
+        }
+    }
+
+    /**
+     * Shows the state of every cell of a board.
+     *
+     * <p>Only the cells whose mark changes are repainted.</p>
+     *
+     * @param board the board to show
+     * @param revealShips true to show ships that have not been hit
+     */
+    public void showBoard(Board board, boolean revealShips) {
+        int boardRows = Math.min(rows, Board.SIZE);
+        int boardCols = Math.min(cols, Board.SIZE);
+        for (int row = 0; row < boardRows; row++) {
+            for (int col = 0; col < boardCols; col++) {
+                setMark(row, col, markOf(board.getCellState(row, col), revealShips));
+            }
+        }
+    }
+
+    /**
+     * Shows the cells changed by a shot.
+     *
+     * <p>Unlike {@link #attach(Board, boolean)} this never reads the board,
+     * so it is safe while the engine keeps working on it in another thread.</p>
+     *
+     * @param outcome the outcome of the shot
+     * @param revealShips true to show ships that have not been hit
+     */
+    public void showChanges(ShotOutcome outcome, boolean revealShips) {
+        long start = Timer.start();
+        for (int i = 0; i < outcome.getChangedCount(); i++) {
+            Coordinate cell = outcome.getChangedCell(i);
+            if (cell.getRow() < rows && cell.getCol() < cols) {
+                setMark(cell.getRow(), cell.getCol(), markOf(outcome.getChangedState(i), revealShips));
+            }
+        }
+        Metrics.UI_REFRESH.stop(start);
+    }
+
+    /**
+     * Shows a board and keeps following it.
+     *
+     * <p>The view registers a {@link BoardListener} on the board and
+     * repaints only the cells it reports, so a shot costs one cell and a
+     * sinking costs the cells of one ship. The board must only be modified
+     * on the JavaFX application thread while attached. Any previously
+     * attached board is detached first.</p>
+     *
+     * @param board the board to follow
+     * @param revealShips true to show ships that have not been hit
+     */
+    public void attach(Board board, boolean revealShips) {
+        detach();
+        attachedBoard = board;
+        boardListener = new BoardListener() {
+            @Override
+            public void cellChanged(int row, int col, CellState state) {
+                long start = Timer.start();
+                if (row < rows && col < cols) {
+                    setMark(row, col, markOf(state, revealShips));
+                }
+                Metrics.UI_REFRESH.stop(start);
+            }
+
+            @Override
+            public void boardReset() {
+                showBoard(board, revealShips);
+            }
+        };
+        board.addListener(boardListener);
+        showBoard(board, revealShips);
+    }
+
+    /**
+     * Stops following the attached board, if any. The marks are kept.
+     */
+    public void detach() {
+        if (attachedBoard != null) {
+            attachedBoard.removeListener(boardListener);
+            attachedBoard = null;
+            boardListener = null;
+        }
+    }
+
+    /**
+     * Shows a ship placement preview over the marks.
+     *
+     * <p>The preview is an overlay: the marks below it are kept, and only
+     * the cells of the previous and the new preview are repainted. Cells
+     * falling outside the board are ignored.</p>
+     *
+     * @param row the row of the first cell of the ship
+     * @param col the column of the first cell of the ship
+     * @param length the number of cells of the ship
+     * @param orientation the direction the ship extends in
+     * @param valid true to show the placement as valid, false as invalid
+     */
+    public void showPreview(int row, int col, int length, Orientation orientation, boolean valid) {
+        boolean horizontal = orientation == Orientation.HORIZONTAL;
+        if (row == previewRow && col == previewCol && length == previewLength
+                && horizontal == previewHorizontal && valid == previewValid) {
+            return;
+        }
+        clearPreview();
+        previewRow = row;
+        previewCol = col;
+        previewLength = length;
+        previewHorizontal = horizontal;
+        previewValid = valid;
+        paintPreviewCells();
+    }
+
+    /**
+     * Hides the placement preview, repainting only the cells it covered.
+     */
+    public void clearPreview() {
+        if (previewRow < 0) {
+            return;
+        }
+        int row = previewRow;
+        previewRow = -1;
+        paintPreviewCells(row);
+    }
+
+    /**
+     * Sets every cell to {@link Mark#EMPTY} and repaints the board.
+     */
+    public void clear() {
+        Arrays.fill(marks, Mark.EMPTY);
+        render();
+    }
+
+    /**
+     * Gets the row under a vertical position.
+     *
+     * @param y the position in local coordinates
+     * @return the row, or -1 if the position is outside the board
+     */
+    public int rowAt(double y) {
+        int row = (int) Math.floor(y / cellHeight());
+        return y < 0 || row >= rows ? -1 : row;
+    }
+
+    /**
+     * Gets the column under a horizontal position.
+     *
+     * @param x the position in local coordinates
+     * @return the column, or -1 if the position is outside the board
+     */
+    public int colAt(double x) {
+        int col = (int) Math.floor(x / cellWidth());
+        return x < 0 || col >= cols ? -1 : col;
+    }
+
+    /**
+     * Repaints the whole board.
+     */
+    public void render() {
+        GraphicsContext gc = getGraphicsContext2D();
+        gc.clearRect(0, 0, getWidth(), getHeight());
+        for (int row = 0; row < rows; row++) {
+            for (int col = 0; col < cols; col++) {
+                paintCell(gc, row, col);
+            }
+        }
+    }
+
+    @Override
+    public List<CssMetaData<? extends Styleable, ?>> getCssMetaData() {
+        return CSS.getCssMetaData();
+    }
+
+    /**
+     * Creates the fill property of every mark.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private StyleableProperty<Paint>[] createFills() {
+        StyleableProperty<Paint>[] properties = new StyleableProperty[DEFAULT_FILLS.length];
+        for (Mark mark : Mark.values()) {
+            int index = mark.ordinal();
+            String name = mark.name().toLowerCase().replace('_', '-');
+            properties[index] = CSS.createStyleablePaintProperty(this, name + "Fill", "-bnf-" + name + "-fill",
+                    view -> view.fills[index], DEFAULT_FILLS[index]);
+        }
+        return properties;
+    }
+
+    /**
+     * Repaints the board whenever a CSS property changes.
+     */
+    private void repaintOnChange(StyleableProperty<Paint> property) {
+        ((ObservableValue<?>) property).addListener(obs -> render());
+    }
+
+    /**
+     * Gets the mark that shows a cell state.
+     *
+     * @param state the state of the cell
+     * @param revealShips true to show ships that have not been hit
+     * @return the mark showing the state
+     */
+    public static Mark markOf(CellState state, boolean revealShips) {
+        switch (state) {
+            case HIT_SHIP_PART: return Mark.HIT;
+            case SUNK_SHIP_PART: return Mark.SUNK;
+            case WATER: return Mark.WATER;
+            case SHIP_PART: return revealShips ? Mark.SHIP : Mark.EMPTY;
+            default: return Mark.EMPTY;
+        }
+    }
+
+    /**
+     * Repaints the cells of the current preview.
+     */
+    private void paintPreviewCells() {
+        paintPreviewCells(previewRow);
+    }
+
+    /**
+     * Repaints the cells of a preview starting at the given row.
+     */
+    private void paintPreviewCells(int startRow) {
+        GraphicsContext gc = getGraphicsContext2D();
+        for (int i = 0; i < previewLength; i++) {
+            int row = previewHorizontal ? startRow : startRow + i;
+            int col = previewHorizontal ? previewCol + i : previewCol;
+            if (row >= 0 && row < rows && col >= 0 && col < cols) {
+                paintCell(gc, row, col);
+            }
+        }
+    }
+
+    /**
+     * Checks whether a cell is covered by the placement preview.
+     */
+    private boolean inPreview(int row, int col) {
+        if (previewRow < 0) {
+            return false;
+        }
+        if (previewHorizontal) {
+            return row == previewRow && col >= previewCol && col < previewCol + previewLength;
+        }
+        return col == previewCol && row >= previewRow && row < previewRow + previewLength;
+    }
+
+    /**
+     * Paints one cell: background, border and symbol.
+     */
+    private void paintCell(GraphicsContext gc, int row, int col) {
+        double width = cellWidth();
+        double height = cellHeight();
+        if (width <= 0 || height <= 0) {
+            return;
+        }
+        double x = col * width;
+        double y = row * height;
+        Mark mark = marks[row * cols + col];
+
+        Mark fill = inPreview(row, col) ? (previewValid ? Mark.PREVIEW_VALID : Mark.PREVIEW_INVALID) : mark;
+        gc.setFill(fills[fill.ordinal()].getValue());
+        gc.fillRect(x, y, width, height);
+        gc.setStroke(gridColor.getValue());
+        gc.setLineWidth(1);
+        gc.strokeRect(x + 0.5, y + 0.5, width - 1, height - 1);
+
+        double inset = Math.min(width, height) * 0.25;
+        gc.setStroke(symbolColor.getValue());
+        gc.setLineWidth(Math.max(1, inset / 4));
+        switch (mark) {
+            case HIT:
+            case SUNK:
+                gc.strokeLine(x + inset, y + inset, x + width - inset, y + height - inset);
+                gc.strokeLine(x + width - inset, y + inset, x + inset, y + height - inset);
+                break;
+            case WATER:
+                gc.setStroke(gridColor.getValue());
+                gc.strokeOval(x + inset, y + inset, width - 2 * inset, height - 2 * inset);
+                break;
+            default:
+                break;
+        }
+    }
+
+    /**
+     * Forwards a primary click to the click listener.
+     */
+    private void handleClick(MouseEvent event) {
+        if (event.getButton() != MouseButton.PRIMARY || onCellClicked == null) {
+            return;
+        }
+        int row = rowAt(event.getY());
+        int col = colAt(event.getX());
+        if (row >= 0 && col >= 0) {
+            onCellClicked.cellEvent(row, col);
+        }
+    }
+
+    /**
+     * Tracks the cell under the mouse.
+     */
+    private void handleMove(MouseEvent event) {
+        int row = rowAt(event.getY());
+        int col = colAt(event.getX());
+        hover(row < 0 || col < 0 ? -1 : row * cols + col);
+    }
+
+    /**
+     * Notifies the hover listener when the cell under the mouse changes.
+     */
+    private void hover(int index) {
+        if (index == hoveredIndex) {
+            return;
+        }
+        hoveredIndex = index;
+        if (onCellHovered != null) {
+            onCellHovered.cellEvent(index < 0 ? -1 : index / cols, index < 0 ? -1 : index % cols);
+        }
+    }
+
+    /**
+     * Gets the index of a cell in {@link #marks}.
+     */
+    private int indexOf(int row, int col) {
+        if (row < 0 || row >= rows || col < 0 || col >= cols) {
+            throw new IndexOutOfBoundsException("Celda fuera del tablero: (" + row + "," + col + ")");
+        }
+        return row * cols + col;
+    }
+
+    /** Gets the width of a cell. */
+    private double cellWidth() {
+        return getWidth() / cols;
+    }
+
+    /** Gets the height of a cell. */
+    private double cellHeight() {
+        return getHeight() / rows;
+    }
+}
@@ -0,0 +1,80 @@
+package view;
+
+import javafx.css.PseudoClass;
+import javafx.scene.Node;
+
+/**
+ * Style class and pseudo-classes of board cells drawn as nodes.
+ *
+ * <p>Every cell node carries the {@value #STYLE_CLASS} style class, and its
+ * {@link BoardView.Mark} is expressed as one pseudo-class ({@code :ship},
+ * {@code :hit}, {@code :sunk}, {@code :water}, {@code :preview-valid} or
+ * {@code :preview-invalid}; empty cells have none). The look of each state
+ * lives in {@code styles.css}, so changing a cell only toggles a
+ * pseudo-class and the CSS engine reuses its cached styles instead of
+ * parsing an inline style string.</p>
+ *
+ * @author Battle Naval Fury Team
+ * @version 1.0
+ * @since 1.0
+ * @see BoardView
+ */
+public final class CellStyle {
+
+    /** Style class of every cell node */
+    public static final String STYLE_CLASS = "board-cell";
+
+    /** Pseudo-class per mark, indexed by ordinal; null for {@link BoardView.Mark#EMPTY} */
+    private static final PseudoClass[] PSEUDO_CLASSES = new PseudoClass[BoardView.Mark.values().length];
+
+    static {
+        for (BoardView.Mark mark : BoardView.Mark.values()) {
+            if (mark != BoardView.Mark.EMPTY) {
+                PSEUDO_CLASSES[mark.ordinal()] = PseudoClass.getPseudoClass(mark.name().toLowerCase().replace('_', '-'));
+            }
+        }
+    }
+
+    /**
+     * Private constructor to prevent instantiation of utility class.
+     */
+    private CellStyle() {
+        throw new UnsupportedOperationException("Utility class cannot be instantiated");
+    }
+
+    /**
+     * Gets the pseudo-class of a mark.
+     *
+     * @param mark the mark
+     * @return the pseudo-class, or null for {@link BoardView.Mark#EMPTY}
+     */
+    public static PseudoClass pseudoClassOf(BoardView.Mark mark) {
+        return PSEUDO_CLASSES[mark.ordinal()];
+    }
+
+    /**
+     * Adds the cell style class to a node, with no state.
+     *
+     * @param node the cell node
+     * @param extraClasses further style classes, such as the kind of grid
+     */
+    public static void install(Node node, String... extraClasses) {
+        node.getStyleClass().add(STYLE_CLASS);
+        node.getStyleClass().addAll(extraClasses);
+    }
+
+    /**
+     * Shows a mark on a cell node by switching its pseudo-class.
+     *
+     * @param node the cell node
+     * @param mark the mark to show
+     */
+    public static void apply(Node node, BoardView.Mark mark) {
+        for (BoardView.Mark other : BoardView.Mark.values()) {
+            PseudoClass pseudoClass = PSEUDO_CLASSES[other.ordinal()];
+            if (pseudoClass != null) {
+                node.pseudoClassStateChanged(pseudoClass, other == mark);
+            }
+        }
+    }
+}